@@ -0,0 +1,32 @@
+package com.mojang.authlib;
+
+import com.mojang.authlib.properties.PropertyMap;
+
+import java.util.UUID;
+
+/**
+ * Sustituto para benchmarks del GameProfile de authlib.
+ */
+public class GameProfile {
+
+    private final UUID id;
+    private final String name;
+    private final PropertyMap properties = new PropertyMap();
+
+    public GameProfile(UUID id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public PropertyMap getProperties() {
+        return properties;
+    }
+}
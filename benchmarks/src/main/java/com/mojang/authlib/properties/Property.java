@@ -0,0 +1,37 @@
+package com.mojang.authlib.properties;
+
+/**
+ * Sustituto para benchmarks del Property de authlib.
+ */
+public class Property {
+
+    private final String name;
+    private final String value;
+    private final String signature;
+
+    public Property(String name, String value) {
+        this(name, value, null);
+    }
+
+    public Property(String name, String value, String signature) {
+        this.name = name;
+        this.value = value;
+        this.signature = signature;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public String getSignature() {
+        return signature;
+    }
+
+    public boolean hasSignature() {
+        return signature != null;
+    }
+}
@@ -0,0 +1,18 @@
+package com.mojang.authlib.properties;
+
+import com.google.common.collect.ForwardingMultimap;
+import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.Multimap;
+
+/**
+ * Sustituto para benchmarks del PropertyMap de authlib.
+ */
+public class PropertyMap extends ForwardingMultimap<String, Property> {
+
+    private final Multimap<String, Property> properties = LinkedHashMultimap.create();
+
+    @Override
+    protected Multimap<String, Property> delegate() {
+        return properties;
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.epicgo.benchmark;
+
+import io.github.epicgo.layout.TabLayout;
+import org.bukkit.craftbukkit.v1_8_R3.BenchmarkServer;
+import org.bukkit.craftbukkit.v1_8_R3.entity.CraftPlayer;
+
+/**
+ * Datos compartidos por los benchmarks: jugadores con su conexión y diseños de 80 casillas.
+ */
+public final class Benchmarks {
+
+    private Benchmarks() {
+    }
+
+    /**
+     * Crea un jugador conectado, instalando antes el servidor para que Reflection resuelva las clases v1_8_R3.
+     * Debe llamarse antes de usar cualquier clase del plugin que resuelva clases NMS.
+     *
+     * @param name el nombre del jugador.
+     * @return el jugador.
+     */
+    public static CraftPlayer player(String name) {
+        BenchmarkServer.install();
+        return CraftPlayer.create(name);
+    }
+
+    /**
+     * Crea los textos de las 80 casillas con un prefijo.
+     *
+     * @param prefix el prefijo de los textos.
+     * @return los textos, indexados por casilla.
+     */
+    public static String[] texts(String prefix) {
+        String[] texts = new String[TabLayout.MAX_SLOTS];
+        for (int tabSlot = 0; tabSlot < texts.length; tabSlot++) {
+            texts[tabSlot] = "&7" + prefix + " &f" + tabSlot;
+        }
+        return texts;
+    }
+
+    /**
+     * Crea un diseño con las 80 casillas definidas.
+     *
+     * @param prefix el prefijo de los textos de las casillas.
+     * @param ping   el ping de todas las casillas.
+     * @return el diseño.
+     */
+    public static TabLayout layout(String prefix, int ping) {
+        TabLayout layout = new TabLayout();
+        String[] texts = texts(prefix);
+        for (int tabSlot = 0; tabSlot < texts.length; tabSlot++) {
+            layout.addSlot(tabSlot, texts[tabSlot], ping);
+        }
+        layout.setHeader("&6Header " + prefix);
+        layout.setFooter("&6Footer " + prefix);
+        return layout;
+    }
+}
@@ -0,0 +1,10 @@
+package io.github.epicgo.benchmark;
+
+import org.openjdk.jmh.annotations.Fork;
+
+/**
+ * {@link ReflectionBackendBenchmark} con la reflexión clásica.
+ */
+@Fork(value = 1, jvmArgsAppend = "-Dtab.reflection.legacy=true")
+public class LegacyBackendBenchmark extends ReflectionBackendBenchmark {
+}
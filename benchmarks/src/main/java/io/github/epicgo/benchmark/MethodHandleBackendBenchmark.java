@@ -0,0 +1,10 @@
+package io.github.epicgo.benchmark;
+
+import org.openjdk.jmh.annotations.Fork;
+
+/**
+ * {@link ReflectionBackendBenchmark} con el backend de MethodHandles.
+ */
+@Fork(1)
+public class MethodHandleBackendBenchmark extends ReflectionBackendBenchmark {
+}
@@ -0,0 +1,67 @@
+package io.github.epicgo.benchmark;
+
+import io.github.epicgo.FakeProfilePool;
+import io.github.epicgo.layout.TabEntry;
+import io.github.epicgo.reflect.MinecraftReflection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coste de construir los paquetes de información del jugador: los datos de una casilla y el paquete
+ * completo de 80 casillas.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PacketBenchmark {
+
+    private Object profile;
+    private String text;
+    private List<TabEntry> entries;
+
+    @Setup
+    public void setup() {
+        Benchmarks.player("Setup");
+
+        profile = FakeProfilePool.getProfile(0);
+        text = "&7Slot &f0";
+
+        String[] texts = Benchmarks.texts("Slot");
+        entries = new ArrayList<>(texts.length);
+        for (int tabSlot = 0; tabSlot < texts.length; tabSlot++) {
+            entries.add(new TabEntry().setId(FakeProfilePool.getId(tabSlot)).setName(FakeProfilePool.getName(tabSlot))
+                    .setGameProfile(FakeProfilePool.getProfile(tabSlot)).setTabSlot(tabSlot).setTextLine(texts[tabSlot]));
+        }
+    }
+
+    @Benchmark
+    public Object createPlayerInfoData() {
+        return MinecraftReflection.createPlayerInfoData(profile, 0, MinecraftReflection.EnumGamemode.NOT_SET, text);
+    }
+
+    @Benchmark
+    public Object createPlayerInfoPacket() {
+        return MinecraftReflection.createPlayerInfoPacket(MinecraftReflection.EnumPlayerInfoAction.UPDATE_DISPLAY_NAME,
+                MinecraftReflection.createPlayerInfoData(profile, 0, MinecraftReflection.EnumGamemode.NOT_SET, text));
+    }
+
+    @Benchmark
+    public Object createTabEntriesPacket() {
+        return MinecraftReflection.createTabEntriesPacket(MinecraftReflection.EnumPlayerInfoAction.ADD_PLAYER, entries);
+    }
+}
@@ -0,0 +1,126 @@
+package io.github.epicgo.benchmark;
+
+import io.github.epicgo.FakeProfilePool;
+import io.github.epicgo.reflect.MinecraftReflection;
+import io.github.epicgo.reflect.PacketFactory;
+import org.bukkit.ChatColor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coste por paquete de {@link PacketFactory}, que resuelve los constructores, campos y constantes una sola vez,
+ * frente a la búsqueda por llamada que hacía MinecraftReflection antes de la fábrica.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PacketFactoryBenchmark {
+
+    private Object profile;
+    private String[] texts;
+    private int index;
+
+    @Setup
+    public void setup() {
+        Benchmarks.player("Setup");
+
+        profile = FakeProfilePool.getProfile(0);
+        texts = Benchmarks.texts("Slot");
+    }
+
+    @Benchmark
+    public Object packetFactory() {
+        Object infoData = PacketFactory.createPlayerInfoData(profile, 0, MinecraftReflection.EnumGamemode.NOT_SET, nextText());
+        return PacketFactory.createPlayerInfoPacket(MinecraftReflection.EnumPlayerInfoAction.UPDATE_DISPLAY_NAME, Collections.singletonList(infoData));
+    }
+
+    @Benchmark
+    public Object perCallLookup() throws ReflectiveOperationException {
+        Object infoData = PerCallLookup.createPlayerInfoData(profile, 0, MinecraftReflection.EnumGamemode.NOT_SET, nextText());
+        return PerCallLookup.createPlayerInfoPacket(MinecraftReflection.EnumPlayerInfoAction.UPDATE_DISPLAY_NAME, infoData);
+    }
+
+    // Recorre los textos de las 80 casillas, como en un refresco
+    private String nextText() {
+        String text = texts[index];
+        index = (index + 1) % texts.length;
+        return text;
+    }
+
+    // Reproduce la construcción anterior a PacketFactory: cada paquete busca sus constructores, campos y
+    // constantes en los miembros declarados, los hace accesibles y traduce los colores del texto
+    private static final class PerCallLookup {
+
+        private static Object createPlayerInfoPacket(MinecraftReflection.EnumPlayerInfoAction action, Object infoData) throws ReflectiveOperationException {
+            Object packet = constructor(MinecraftReflection.PLAYER_INFO_CLASS).newInstance();
+
+            Object actionEnum = enumConstant(MinecraftReflection.PLAYER_INFO_ENUM_CLASS, action.name());
+            field(MinecraftReflection.PLAYER_INFO_CLASS, "a").set(packet, actionEnum);
+            field(MinecraftReflection.PLAYER_INFO_CLASS, "b").set(packet, Collections.singletonList(infoData));
+
+            return packet;
+        }
+
+        private static Object createPlayerInfoData(Object profile, int ping, MinecraftReflection.EnumGamemode gamemode, String componentText) throws ReflectiveOperationException {
+            Constructor<?> constructor = MinecraftReflection.PLAYER_INFO_DATA_CLASS.getDeclaredConstructors()[0];
+            constructor.setAccessible(true);
+
+            List<Object> parameters = new ArrayList<>();
+            if (constructor.getParameterTypes()[0] == MinecraftReflection.PLAYER_INFO_CLASS) {
+                parameters.add(null);
+            }
+            parameters.add(profile);
+            parameters.add(ping);
+            parameters.add(enumConstant(MinecraftReflection.WORLD_SETTINGS_ENUM_CLASS, gamemode.name()));
+            parameters.add(constructor(MinecraftReflection.CHAT_COMPONENT_TEXT_CLASS, String.class)
+                    .newInstance(ChatColor.translateAlternateColorCodes('&', componentText)));
+
+            return constructor.newInstance(parameters.toArray());
+        }
+
+        private static Constructor<?> constructor(Class<?> type, Class<?>... params) {
+            for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+                if (Arrays.equals(constructor.getParameterTypes(), params)) {
+                    constructor.setAccessible(true);
+                    return constructor;
+                }
+            }
+            throw new IllegalStateException("Unable to find constructor for " + type);
+        }
+
+        private static Field field(Class<?> type, String name) {
+            for (Field field : type.getDeclaredFields()) {
+                if (field.getName().equals(name)) {
+                    field.setAccessible(true);
+                    return field;
+                }
+            }
+            throw new IllegalStateException("Unable to find field " + name + " in " + type);
+        }
+
+        private static Object enumConstant(Class<?> type, String name) throws ReflectiveOperationException {
+            Field field = type.getDeclaredField(name);
+            field.setAccessible(true);
+            return field.get(null);
+        }
+    }
+}
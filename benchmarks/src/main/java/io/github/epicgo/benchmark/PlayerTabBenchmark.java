@@ -0,0 +1,71 @@
+package io.github.epicgo.benchmark;
+
+import io.github.epicgo.PlayerTab;
+import io.github.epicgo.layout.TabLayout;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coste de leer las casillas de una Tab y de refrescarla de principio a fin: comparar las 80 casillas,
+ * construir los paquetes y escribirlos en el canal del jugador.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PlayerTabBenchmark {
+
+    private PlayerTab tab;
+    // Dos diseños en los que cambian el texto y el ping de las 80 casillas, y el encabezado y el pie
+    private TabLayout first, second;
+    private boolean toggle;
+
+    @Setup
+    public void setup() {
+        tab = new PlayerTab(Benchmarks.player("Viewer"));
+        tab.showTab();
+
+        first = Benchmarks.layout("First", 0);
+        second = Benchmarks.layout("Second", 150);
+        tab.updateTab(first);
+    }
+
+    @Benchmark
+    public void getTabEntryBySlot(Blackhole blackhole) {
+        for (int tabSlot = 0; tabSlot < TabLayout.MAX_SLOTS; tabSlot++) {
+            blackhole.consume(tab.getTabEntryBySlot(tabSlot));
+        }
+    }
+
+    @Benchmark
+    public void readSlots(Blackhole blackhole) {
+        for (int tabSlot = 0; tabSlot < TabLayout.MAX_SLOTS; tabSlot++) {
+            blackhole.consume(tab.getText(tabSlot));
+            blackhole.consume(tab.getPing(tabSlot));
+        }
+    }
+
+    @Benchmark
+    public int refreshAllSlots() {
+        toggle = !toggle;
+        return tab.updateTab(toggle ? second : first);
+    }
+
+    @Benchmark
+    public int refreshUnchanged() {
+        return tab.updateTab(first);
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.epicgo.benchmark;
+
+import io.github.epicgo.FakeProfilePool;
+import io.github.epicgo.reflect.MinecraftReflection;
+import io.github.epicgo.reflect.PacketFactory;
+import io.netty.channel.Channel;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coste de las llamadas reflexivas más frecuentes del plugin con cada backend de Reflection.
+ * {@link MethodHandleBackendBenchmark} usa los MethodHandles (por defecto) y {@link LegacyBackendBenchmark}
+ * la reflexión clásica, activada con -Dtab.reflection.legacy=true en su propia JVM.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public abstract class ReflectionBackendBenchmark {
+
+    private Player player;
+    private Object profile;
+    private Object packet;
+
+    @Setup
+    public void setup() {
+        player = Benchmarks.player("Viewer");
+        profile = FakeProfilePool.getProfile(0);
+        packet = PacketFactory.createPlayerInfoPacket(MinecraftReflection.EnumPlayerInfoAction.UPDATE_LATENCY, Collections.emptyList());
+    }
+
+    @Benchmark
+    public Object getEntityPlayer() {
+        return MinecraftReflection.getEntityPlayer(player);
+    }
+
+    @Benchmark
+    public Channel getChannel() {
+        return MinecraftReflection.getChannel(player);
+    }
+
+    @Benchmark
+    public int getPing() {
+        return MinecraftReflection.getPing(player);
+    }
+
+    @Benchmark
+    public void sendPacket() {
+        MinecraftReflection.sendPacket(player, packet);
+    }
+
+    @Benchmark
+    public Object createPlayerInfoPacket() {
+        Object infoData = PacketFactory.createPlayerInfoData(profile, 0, MinecraftReflection.EnumGamemode.NOT_SET, " ");
+        return PacketFactory.createPlayerInfoPacket(MinecraftReflection.EnumPlayerInfoAction.UPDATE_DISPLAY_NAME, Collections.singletonList(infoData));
+    }
+}
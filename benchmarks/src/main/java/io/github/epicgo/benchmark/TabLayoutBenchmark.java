@@ -0,0 +1,54 @@
+package io.github.epicgo.benchmark;
+
+import io.github.epicgo.layout.TabLayout;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coste de construir un diseño completo de 80 casillas con {@link TabLayout#addSlot}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TabLayoutBenchmark {
+
+    private String[] texts;
+
+    @Setup
+    public void setup() {
+        texts = Benchmarks.texts("Slot");
+    }
+
+    @Benchmark
+    public TabLayout addSlotsByIndex() {
+        TabLayout layout = new TabLayout();
+        for (int tabSlot = 0; tabSlot < texts.length; tabSlot++) {
+            layout.addSlot(tabSlot, texts[tabSlot], tabSlot % 5 * 150);
+        }
+        return layout;
+    }
+
+    @Benchmark
+    public TabLayout addSlotsByPosition() {
+        TabLayout layout = new TabLayout();
+        for (int x = 0; x < TabLayout.MAX_SLOTS / TabLayout.ROWS; x++) {
+            for (int y = 0; y < TabLayout.ROWS; y++) {
+                layout.addSlot(x, y, texts[y + x * TabLayout.ROWS]);
+            }
+        }
+        return layout;
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.epicgo.benchmark;
+
+import io.github.epicgo.PlayerTab;
+import io.github.epicgo.layout.TabEntry;
+import io.github.epicgo.layout.TabLayout;
+import io.netty.util.internal.ConcurrentSet;
+import org.bukkit.entity.Player;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Mide con JOL la memoria que retiene el estado de la Tab de cada jugador, en bytes por jugador.
+ * <p>
+ * Crea N jugadores, muestra su Tab y le aplica un diseño de 80 casillas cuyos textos se construyen por jugador,
+ * como en un diseño calculado para cada uno. Se mide el grafo de todas las {@link PlayerTab} sin el de los
+ * jugadores, de modo que los textos y perfiles compartidos entre Tabs se reparten entre todas. Como referencia
+ * se mide también la representación anterior: 80 {@link TabEntry} por jugador, en un ConcurrentSet.
+ * <pre>
+ * java -cp target/benchmarks.jar io.github.epicgo.benchmark.TabMemoryFootprint [jugadores]
+ * </pre>
+ */
+public final class TabMemoryFootprint {
+
+    private TabMemoryFootprint() {
+    }
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+
+        Player[] players = new Player[count];
+        PlayerTab[] tabs = new PlayerTab[count];
+        Object[] legacyTabs = new Object[count];
+        for (int index = 0; index < count; index++) {
+            players[index] = Benchmarks.player("Player" + index);
+
+            tabs[index] = new PlayerTab(players[index]);
+            tabs[index].showTab();
+            tabs[index].updateTab(createLayout());
+
+            legacyTabs[index] = createLegacyEntries();
+        }
+
+        GraphLayout playersLayout = GraphLayout.parseInstance((Object) players);
+        GraphLayout tabsLayout = GraphLayout.parseInstance((Object) tabs).subtract(playersLayout);
+        GraphLayout legacyLayout = GraphLayout.parseInstance((Object) legacyTabs);
+
+        System.out.printf("Players: %d%n", count);
+        System.out.printf("PlayerTab:         %,d bytes/player (%,d objects/player)%n",
+                tabsLayout.totalSize() / count, tabsLayout.totalCount() / count);
+        System.out.printf("80 TabEntry (old): %,d bytes/player (%,d objects/player)%n",
+                legacyLayout.totalSize() / count, legacyLayout.totalCount() / count);
+    }
+
+    // Diseño de 80 casillas con textos nuevos, iguales en contenido para todos los jugadores
+    private static TabLayout createLayout() {
+        TabLayout layout = new TabLayout();
+        for (int tabSlot = 0; tabSlot < TabLayout.MAX_SLOTS; tabSlot++) {
+            layout.addSlot(tabSlot, new StringBuilder("&7Slot &f").append(tabSlot).toString(), 0);
+        }
+        return layout;
+    }
+
+    // Estado de la Tab antes de la representación compacta: una entrada por casilla con UUID, nombre y texto propios
+    private static Set<TabEntry> createLegacyEntries() {
+        Set<TabEntry> entries = new ConcurrentSet<>();
+        for (int tabSlot = 0; tabSlot < TabLayout.MAX_SLOTS; tabSlot++) {
+            entries.add(new TabEntry().setId(UUID.randomUUID()).setName(String.format("§l§a§n§e§%d§%d", tabSlot / 10, tabSlot % 10))
+                    .setTabSlot(tabSlot).setTextLine(new StringBuilder("&7Slot &f").append(tabSlot).toString()));
+        }
+        return entries;
+    }
+}
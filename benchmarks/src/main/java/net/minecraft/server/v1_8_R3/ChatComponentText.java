@@ -0,0 +1,18 @@
+package net.minecraft.server.v1_8_R3;
+
+/**
+ * Sustituto para benchmarks del ChatComponentText de Minecraft 1.8.8.
+ */
+public class ChatComponentText implements IChatBaseComponent {
+
+    private final String text;
+
+    public ChatComponentText(String text) {
+        this.text = text;
+    }
+
+    @Override
+    public String getText() {
+        return text;
+    }
+}
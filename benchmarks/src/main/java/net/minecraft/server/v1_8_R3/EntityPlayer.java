@@ -0,0 +1,22 @@
+package net.minecraft.server.v1_8_R3;
+
+import com.mojang.authlib.GameProfile;
+
+/**
+ * Sustituto para benchmarks del EntityPlayer de Minecraft 1.8.8.
+ */
+public class EntityPlayer {
+
+    private final GameProfile profile;
+    public PlayerConnection playerConnection;
+    public int ping;
+    public String listName;
+
+    public EntityPlayer(GameProfile profile) {
+        this.profile = profile;
+    }
+
+    public GameProfile getProfile() {
+        return profile;
+    }
+}
@@ -0,0 +1,19 @@
+package net.minecraft.server.v1_8_R3;
+
+/**
+ * Sustituto para benchmarks del EnumProtocol de Minecraft 1.8.8; solo conoce los paquetes de este módulo,
+ * con sus identificadores reales del protocolo de juego.
+ */
+public enum EnumProtocol {
+    HANDSHAKING,
+    PLAY,
+    STATUS,
+    LOGIN;
+
+    public Integer a(EnumProtocolDirection direction, Packet packet) {
+        if (this != PLAY || direction != EnumProtocolDirection.CLIENTBOUND) return null;
+        if (packet instanceof PacketPlayOutPlayerInfo) return 0x38;
+        if (packet instanceof PacketPlayOutPlayerListHeaderFooter) return 0x47;
+        return null;
+    }
+}
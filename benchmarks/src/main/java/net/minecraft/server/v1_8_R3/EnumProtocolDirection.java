@@ -0,0 +1,9 @@
+package net.minecraft.server.v1_8_R3;
+
+/**
+ * Sustituto para benchmarks del EnumProtocolDirection de Minecraft 1.8.8.
+ */
+public enum EnumProtocolDirection {
+    SERVERBOUND,
+    CLIENTBOUND
+}
@@ -0,0 +1,9 @@
+package net.minecraft.server.v1_8_R3;
+
+/**
+ * Sustituto para benchmarks del IChatBaseComponent de Minecraft 1.8.8.
+ */
+public interface IChatBaseComponent {
+
+    String getText();
+}
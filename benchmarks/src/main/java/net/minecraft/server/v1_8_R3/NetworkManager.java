@@ -0,0 +1,27 @@
+package net.minecraft.server.v1_8_R3;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.ReferenceCountUtil;
+
+/**
+ * Sustituto para benchmarks del NetworkManager de Minecraft 1.8.8. El canal es un EmbeddedChannel que descarta
+ * los mensajes escritos, de modo que escribir y vaciar cuesta lo mismo que recorrer el pipeline de netty.
+ */
+public class NetworkManager {
+
+    public Channel channel = new EmbeddedChannel(new ChannelOutboundHandlerAdapter() {
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+            ReferenceCountUtil.release(msg);
+            promise.setSuccess();
+        }
+    });
+
+    public void handle(Packet packet) {
+        channel.writeAndFlush(packet);
+    }
+}
@@ -0,0 +1,13 @@
+package net.minecraft.server.v1_8_R3;
+
+import java.io.IOException;
+
+/**
+ * Sustituto para benchmarks del Packet de Minecraft 1.8.8: lectura y escritura del contenido del paquete.
+ */
+public interface Packet {
+
+    void a(PacketDataSerializer serializer) throws IOException;
+
+    void b(PacketDataSerializer serializer) throws IOException;
+}
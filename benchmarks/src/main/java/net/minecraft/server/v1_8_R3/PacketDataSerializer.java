@@ -0,0 +1,51 @@
+package net.minecraft.server.v1_8_R3;
+
+import io.netty.buffer.ByteBuf;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Sustituto para benchmarks del PacketDataSerializer de Minecraft 1.8.8, con los tipos del protocolo
+ * que usan los paquetes de este módulo.
+ */
+public class PacketDataSerializer {
+
+    private final ByteBuf buffer;
+
+    public PacketDataSerializer(ByteBuf buffer) {
+        this.buffer = buffer;
+    }
+
+    // Escribe un entero con el formato VarInt
+    public void b(int value) {
+        while ((value & -128) != 0) {
+            buffer.writeByte(value & 127 | 128);
+            value >>>= 7;
+        }
+        buffer.writeByte(value);
+    }
+
+    // Escribe una cadena precedida de su longitud en bytes
+    public PacketDataSerializer a(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        b(bytes.length);
+        buffer.writeBytes(bytes);
+        return this;
+    }
+
+    // Escribe un UUID como dos long
+    public void a(UUID value) {
+        buffer.writeLong(value.getMostSignificantBits());
+        buffer.writeLong(value.getLeastSignificantBits());
+    }
+
+    // Escribe un componente de chat como JSON
+    public void a(IChatBaseComponent component) {
+        a("{\"text\":\"" + component.getText() + "\"}");
+    }
+
+    public void writeBoolean(boolean value) {
+        buffer.writeBoolean(value);
+    }
+}
@@ -0,0 +1,113 @@
+package net.minecraft.server.v1_8_R3;
+
+import com.mojang.authlib.GameProfile;
+import com.mojang.authlib.properties.Property;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sustituto para benchmarks del PacketPlayOutPlayerInfo de Minecraft 1.8.8, con los mismos campos, constructores
+ * y clases internas que el real y la misma escritura de cada acción.
+ */
+public class PacketPlayOutPlayerInfo implements Packet {
+
+    private EnumPlayerInfoAction a;
+    private final List<PlayerInfoData> b = new ArrayList<>();
+
+    public PacketPlayOutPlayerInfo() {
+    }
+
+    public PacketPlayOutPlayerInfo(EnumPlayerInfoAction action, EntityPlayer... players) {
+        this.a = action;
+        for (EntityPlayer player : players) {
+            b.add(new PlayerInfoData(player.getProfile(), player.ping, WorldSettings.EnumGamemode.SURVIVAL, player.listName == null ? null : new ChatComponentText(player.listName)));
+        }
+    }
+
+    @Override
+    public void a(PacketDataSerializer serializer) throws IOException {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void b(PacketDataSerializer serializer) throws IOException {
+        serializer.b(a.ordinal());
+        serializer.b(b.size());
+
+        for (PlayerInfoData data : b) {
+            serializer.a(data.a().getId());
+            switch (a) {
+                case ADD_PLAYER:
+                    serializer.a(data.a().getName());
+                    serializer.b(data.a().getProperties().size());
+                    for (Property property : data.a().getProperties().values()) {
+                        serializer.a(property.getName());
+                        serializer.a(property.getValue());
+                        serializer.writeBoolean(property.hasSignature());
+                        if (property.hasSignature()) serializer.a(property.getSignature());
+                    }
+                    serializer.b(data.c().getId());
+                    serializer.b(data.b());
+                    writeDisplayName(serializer, data.d());
+                    break;
+                case UPDATE_GAME_MODE:
+                    serializer.b(data.c().getId());
+                    break;
+                case UPDATE_LATENCY:
+                    serializer.b(data.b());
+                    break;
+                case UPDATE_DISPLAY_NAME:
+                    writeDisplayName(serializer, data.d());
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    private static void writeDisplayName(PacketDataSerializer serializer, IChatBaseComponent displayName) {
+        serializer.writeBoolean(displayName != null);
+        if (displayName != null) serializer.a(displayName);
+    }
+
+    public enum EnumPlayerInfoAction {
+        ADD_PLAYER,
+        UPDATE_GAME_MODE,
+        UPDATE_LATENCY,
+        UPDATE_DISPLAY_NAME,
+        REMOVE_PLAYER
+    }
+
+    public class PlayerInfoData {
+
+        private final int b;
+        private final WorldSettings.EnumGamemode c;
+        private final GameProfile d;
+        private final IChatBaseComponent e;
+
+        public PlayerInfoData(GameProfile profile, int ping, WorldSettings.EnumGamemode gamemode, IChatBaseComponent displayName) {
+            this.d = profile;
+            this.b = ping;
+            this.c = gamemode;
+            this.e = displayName;
+        }
+
+        public GameProfile a() {
+            return d;
+        }
+
+        public int b() {
+            return b;
+        }
+
+        public WorldSettings.EnumGamemode c() {
+            return c;
+        }
+
+        public IChatBaseComponent d() {
+            return e;
+        }
+    }
+}
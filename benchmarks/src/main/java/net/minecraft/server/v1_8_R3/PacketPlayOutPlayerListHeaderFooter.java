@@ -0,0 +1,26 @@
+package net.minecraft.server.v1_8_R3;
+
+import java.io.IOException;
+
+/**
+ * Sustituto para benchmarks del PacketPlayOutPlayerListHeaderFooter de Minecraft 1.8.8.
+ */
+public class PacketPlayOutPlayerListHeaderFooter implements Packet {
+
+    private IChatBaseComponent a;
+    private IChatBaseComponent b;
+
+    public PacketPlayOutPlayerListHeaderFooter() {
+    }
+
+    @Override
+    public void a(PacketDataSerializer serializer) throws IOException {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void b(PacketDataSerializer serializer) throws IOException {
+        serializer.a(a);
+        serializer.a(b);
+    }
+}
@@ -0,0 +1,23 @@
+package net.minecraft.server.v1_8_R3;
+
+/**
+ * Sustituto para benchmarks del PlayerConnection de Minecraft 1.8.8.
+ */
+public class PlayerConnection {
+
+    public final NetworkManager networkManager;
+    public EntityPlayer player;
+    // Número de paquetes enviados por esta conexión
+    public long sentPackets;
+
+    public PlayerConnection(NetworkManager networkManager, EntityPlayer player) {
+        this.networkManager = networkManager;
+        this.player = player;
+        player.playerConnection = this;
+    }
+
+    public void sendPacket(Packet packet) {
+        sentPackets++;
+        networkManager.handle(packet);
+    }
+}
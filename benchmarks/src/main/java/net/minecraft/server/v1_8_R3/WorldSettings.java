@@ -0,0 +1,28 @@
+package net.minecraft.server.v1_8_R3;
+
+/**
+ * Sustituto para benchmarks del WorldSettings de Minecraft 1.8.8; solo incluye la enumeración de modos de juego.
+ */
+public final class WorldSettings {
+
+    private WorldSettings() {
+    }
+
+    public enum EnumGamemode {
+        NOT_SET(-1),
+        SURVIVAL(0),
+        CREATIVE(1),
+        ADVENTURE(2),
+        SPECTATOR(3);
+
+        private final int id;
+
+        EnumGamemode(int id) {
+            this.id = id;
+        }
+
+        public int getId() {
+            return id;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.bukkit.craftbukkit.v1_8_R3;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.logging.Logger;
+
+/**
+ * Instala en {@link Bukkit} un servidor mínimo para ejecutar el plugin fuera de un servidor real.
+ * El servidor no tiene jugadores conectados; los jugadores de los benchmarks se crean con
+ * {@link org.bukkit.craftbukkit.v1_8_R3.entity.CraftPlayer#create(net.minecraft.server.v1_8_R3.EntityPlayer)}.
+ */
+public final class BenchmarkServer {
+
+    private static final Logger LOGGER = Logger.getLogger("Benchmark");
+
+    private BenchmarkServer() {
+    }
+
+    /**
+     * Instala el servidor si todavía no hay ninguno.
+     */
+    public static synchronized void install() {
+        if (Bukkit.getServer() != null) return;
+
+        Bukkit.setServer((Server) Proxy.newProxyInstance(CraftServer.class.getClassLoader(), new Class<?>[]{CraftServer.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getLogger":
+                    return LOGGER;
+                case "getOnlinePlayers":
+                    return Collections.emptyList();
+                case "getName":
+                    return "Benchmark";
+                case "getVersion":
+                case "getBukkitVersion":
+                    return "1.8.8-R0.1-SNAPSHOT";
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "BenchmarkServer";
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        }));
+    }
+
+    /**
+     * Obtiene el valor por defecto de un tipo de retorno: 0 o false para los primitivos, null para el resto.
+     *
+     * @param type el tipo de retorno.
+     * @return el valor por defecto.
+     */
+    public static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) return null;
+        if (type == boolean.class) return false;
+        if (type == char.class) return '\0';
+        if (type == long.class) return 0L;
+        if (type == float.class) return 0F;
+        if (type == double.class) return 0D;
+        if (type == byte.class) return (byte) 0;
+        if (type == short.class) return (short) 0;
+        return 0;
+    }
+}
@@ -0,0 +1,10 @@
+package org.bukkit.craftbukkit.v1_8_R3;
+
+import org.bukkit.Server;
+
+/**
+ * Servidor de los benchmarks. La interfaz no es pública para que el proxy que la implementa se defina en este
+ * paquete, de modo que Reflection resuelva las clases de CraftBukkit y NMS de la versión v1_8_R3.
+ */
+interface CraftServer extends Server {
+}
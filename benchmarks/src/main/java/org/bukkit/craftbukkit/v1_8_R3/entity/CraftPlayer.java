@@ -0,0 +1,67 @@
+package org.bukkit.craftbukkit.v1_8_R3.entity;
+
+import com.mojang.authlib.GameProfile;
+import net.minecraft.server.v1_8_R3.EntityPlayer;
+import net.minecraft.server.v1_8_R3.NetworkManager;
+import net.minecraft.server.v1_8_R3.PlayerConnection;
+import org.bukkit.craftbukkit.v1_8_R3.BenchmarkServer;
+import org.bukkit.entity.Player;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.UUID;
+
+/**
+ * Sustituto para benchmarks del CraftPlayer de CraftBukkit: un jugador de Bukkit con su EntityPlayer.
+ */
+public interface CraftPlayer extends Player {
+
+    EntityPlayer getHandle();
+
+    /**
+     * Crea un jugador conectado con un perfil, una conexión y un canal de netty propios.
+     *
+     * @param name el nombre del jugador.
+     * @return el jugador.
+     */
+    static CraftPlayer create(String name) {
+        EntityPlayer handle = new EntityPlayer(new GameProfile(UUID.nameUUIDFromBytes(name.getBytes()), name));
+        new PlayerConnection(new NetworkManager(), handle);
+        return create(handle);
+    }
+
+    /**
+     * Crea el jugador de Bukkit de un EntityPlayer.
+     *
+     * @param handle el EntityPlayer.
+     * @return el jugador.
+     */
+    static CraftPlayer create(EntityPlayer handle) {
+        // Clase anónima y no lambda: JOL no puede recorrer los campos de las clases ocultas de las lambdas
+        return (CraftPlayer) Proxy.newProxyInstance(CraftPlayer.class.getClassLoader(), new Class<?>[]{CraftPlayer.class}, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                switch (method.getName()) {
+                    case "getHandle":
+                        return handle;
+                    case "getUniqueId":
+                        return handle.getProfile().getId();
+                    case "getName":
+                    case "getPlayerListName":
+                        return handle.getProfile().getName();
+                    case "isOnline":
+                        return true;
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "equals":
+                        return proxy == args[0];
+                    case "toString":
+                        return "CraftPlayer{name=" + handle.getProfile().getName() + "}";
+                    default:
+                        return BenchmarkServer.defaultValue(method.getReturnType());
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.epicgo;
+
+import io.github.epicgo.layout.TabLayout;
+import io.github.epicgo.reflect.MinecraftReflection;
+import org.bukkit.ChatColor;
+
+import java.util.UUID;
+
+/**
+ * Conjunto inmutable de perfiles falsos compartido por todas las Tabs.
+ * Los nombres de ordenación, UUIDs y GameProfiles de cada casilla son iguales para todos los jugadores,
+ * por lo que se crean una sola vez al cargar la clase.
+ * Los nombres se ordenan igual que las casillas, así que las Tabs con menos columnas usan los primeros perfiles del conjunto.
+ */
+public final class FakeProfilePool {
+
+    // Nombres de equipo formateados de cada casilla
+    private static final String[] NAMES = new String[TabLayout.MAX_SLOTS];
+    // UUIDs de los perfiles falsos de cada casilla
+    private static final UUID[] IDS = new UUID[TabLayout.MAX_SLOTS];
+    // GameProfiles (sin propiedades) de cada casilla
+    private static final Object[] PROFILES = new Object[TabLayout.MAX_SLOTS];
+
+    static {
+        for (int tabSlot = 0; tabSlot < TabLayout.MAX_SLOTS; tabSlot++) {
+            NAMES[tabSlot] = getTeamName(tabSlot);
+            IDS[tabSlot] = UUID.randomUUID();
+            PROFILES[tabSlot] = MinecraftReflection.createGameProfile(IDS[tabSlot], NAMES[tabSlot]);
+        }
+    }
+
+    private FakeProfilePool() {
+    }
+
+    /**
+     * Obtiene el nombre de equipo formateado de una casilla.
+     *
+     * @param tabSlot la posición de la casilla.
+     * @return el nombre del perfil falso.
+     */
+    public static String getName(int tabSlot) {
+        return NAMES[tabSlot];
+    }
+
+    /**
+     * Obtiene el UUID del perfil falso de una casilla.
+     *
+     * @param tabSlot la posición de la casilla.
+     * @return el UUID del perfil falso.
+     */
+    public static UUID getId(int tabSlot) {
+        return IDS[tabSlot];
+    }
+
+    /**
+     * Obtiene el GameProfile compartido del perfil falso de una casilla.
+     *
+     * @param tabSlot la posición de la casilla.
+     * @return el GameProfile del perfil falso.
+     */
+    public static Object getProfile(int tabSlot) {
+        return PROFILES[tabSlot];
+    }
+
+    // Método para obtener un nombre de equipo formateado basado en un valor entero
+    private static String getTeamName(final int valueToFormat) {
+        if (valueToFormat >= 10) {
+            // Formato con dos colores para valores mayores o iguales a 10
+            int firstDigit = valueToFormat / 10;
+            int secondDigit = valueToFormat % 10;
+            return ChatColor.BOLD + "" + ChatColor.GREEN + ChatColor.UNDERLINE + ChatColor.YELLOW + ChatColor.COLOR_CHAR + firstDigit + ChatColor.COLOR_CHAR + secondDigit;
+        } else {
+            // Formato con un solo color para valores menores a 10
+            return ChatColor.BOLD + "" + ChatColor.BLACK + ChatColor.COLOR_CHAR + valueToFormat;
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package io.github.epicgo;
+
+import io.github.epicgo.layout.TabLayout;
+import lombok.Getter;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Lista de jugadores conectados, ordenada por rango y después por nombre, que se muestra en un grupo de casillas.
+ * <p>
+ * El orden se mantiene en un árbol que se actualiza en O(log n) al entrar, salir o cambiar de rango un jugador,
+ * en lugar de reordenar {@link Bukkit#getOnlinePlayers()} en cada refresco. Tras cada cambio solo se marcan con
+ * {@link PlayerTab#setSlot(int, String, int, String, String)} las casillas de la página visible cuyo jugador cambió;
+ * las casillas de la lista se reservan con {@link PlayerTab#ownSlot(int, boolean)} para que los diseños completos
+ * no las sobrescriban.
+ * <pre>
+ * PlayerListColumn column = new PlayerListColumn(rankOf, player -&gt; prefixOf(player) + player.getName(),
+ *         PlayerListColumn.slots(1, 0, 3, 19)).register(plugin);
+ * column.addViewer(tab);
+ * </pre>
+ */
+public class PlayerListColumn implements Listener {
+
+    // Orden de la lista: rango, nombre sin distinguir mayúsculas y UUID para desempatar
+    private static final Comparator<Entry> ORDER = Comparator.<Entry>comparingInt(entry -> entry.rank)
+            .thenComparing(entry -> entry.sortName)
+            .thenComparing(entry -> entry.player.getUniqueId());
+
+    // Jugadores ordenados, y la entrada actual de cada jugador para poder quitarla del árbol
+    private final NavigableSet<Entry> entries = new TreeSet<>(ORDER);
+    private final Map<UUID, Entry> entriesById = new HashMap<>();
+    // Tabs que muestran la lista, por UUID del jugador
+    private final Map<UUID, PlayerTab> viewers = new ConcurrentHashMap<>();
+
+    private final ToIntFunction<Player> rank;
+    private final Function<Player, String> formatter;
+    // Casillas donde se muestra la lista, en orden, y la entrada mostrada en cada una
+    private final int[] tabSlots;
+    private final Entry[] displayed;
+
+    // Página visible de la lista
+    @Getter
+    private int page;
+
+    /**
+     * Crea una lista de jugadores ordenada.
+     *
+     * @param rank      el rango de cada jugador; los rangos menores se muestran primero.
+     * @param formatter el texto de la casilla de cada jugador.
+     * @param tabSlots  las casillas donde se muestra la lista, en orden.
+     */
+    public PlayerListColumn(ToIntFunction<Player> rank, Function<Player, String> formatter, int... tabSlots) {
+        this.rank = rank;
+        this.formatter = formatter;
+        this.tabSlots = tabSlots.clone();
+        this.displayed = new Entry[tabSlots.length];
+    }
+
+    /**
+     * Obtiene las casillas de un rectángulo de la cuadrícula, recorriendo cada columna de arriba abajo.
+     *
+     * @param fromX la primera columna.
+     * @param fromY la primera fila.
+     * @param toX   la última columna (incluida).
+     * @param toY   la última fila (incluida).
+     * @return las posiciones de las casillas.
+     */
+    public static int[] slots(int fromX, int fromY, int toX, int toY) {
+        int rows = toY - fromY + 1;
+        int[] slots = new int[(toX - fromX + 1) * rows];
+        for (int x = fromX; x <= toX; x++) {
+            for (int y = fromY; y <= toY; y++) {
+                slots[(x - fromX) * rows + y - fromY] = y + x * TabLayout.ROWS;
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * Registra los eventos de entrada y salida y añade a los jugadores ya conectados.
+     *
+     * @param plugin el plugin que registra los eventos.
+     * @return esta lista.
+     */
+    public PlayerListColumn register(Plugin plugin) {
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+
+        synchronized (this) {
+            for (Player player : Bukkit.getOnlinePlayers()) {
+                insert(player);
+            }
+            render();
+        }
+        return this;
+    }
+
+    /**
+     * Añade un jugador a la lista, o lo vuelve a colocar si ya estaba.
+     *
+     * @param player el jugador.
+     */
+    public synchronized void add(Player player) {
+        insert(player);
+        render();
+    }
+
+    /**
+     * Elimina un jugador de la lista.
+     *
+     * @param player el jugador.
+     */
+    public synchronized void remove(Player player) {
+        Entry entry = entriesById.remove(player.getUniqueId());
+        if (entry == null) return;
+
+        entries.remove(entry);
+        render();
+    }
+
+    /**
+     * Vuelve a colocar a un jugador después de un cambio de rango o de texto.
+     *
+     * @param player el jugador.
+     */
+    public void update(Player player) {
+        add(player);
+    }
+
+    /**
+     * Muestra la lista en la Tab de un jugador.
+     *
+     * @param tab la Tab del jugador.
+     */
+    public synchronized void addViewer(PlayerTab tab) {
+        viewers.put(tab.player.getUniqueId(), tab);
+
+        for (int index = 0; index < tabSlots.length; index++) {
+            tab.ownSlot(tabSlots[index], true);
+            showSlot(tab, index);
+        }
+    }
+
+    /**
+     * Deja de mostrar la lista en la Tab de un jugador; sus casillas vuelven a quedar libres para los diseños completos.
+     *
+     * @param player el jugador.
+     */
+    public synchronized void removeViewer(Player player) {
+        PlayerTab tab = viewers.remove(player.getUniqueId());
+        if (tab == null) return;
+
+        for (int tabSlot : tabSlots) {
+            tab.bindLatency(tabSlot, null);
+            tab.ownSlot(tabSlot, false);
+        }
+    }
+
+    /**
+     * Cambia la página visible de la lista.
+     *
+     * @param page la página, empezando en 0.
+     */
+    public synchronized void setPage(int page) {
+        this.page = Math.max(0, Math.min(page, getPages() - 1));
+        render();
+    }
+
+    /**
+     * Obtiene el número de páginas de la lista.
+     *
+     * @return el número de páginas; al menos 1.
+     */
+    public synchronized int getPages() {
+        return Math.max(1, (entries.size() + tabSlots.length - 1) / tabSlots.length);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        add(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        removeViewer(event.getPlayer());
+        remove(event.getPlayer());
+    }
+
+    // Coloca la entrada del jugador en el árbol, sustituyendo la anterior
+    private void insert(Player player) {
+        int playerRank = rank.applyAsInt(player);
+        String text = formatter.apply(player);
+
+        // Si no cambió nada, la entrada conserva su posición y no se marca ninguna casilla
+        Entry previous = entriesById.get(player.getUniqueId());
+        if (previous != null) {
+            if (previous.rank == playerRank && Objects.equals(previous.text, text)) return;
+            entries.remove(previous);
+        }
+
+        Entry entry = new Entry(player, playerRank, text);
+        entries.add(entry);
+        entriesById.put(player.getUniqueId(), entry);
+    }
+
+    // Recorre la página visible y marca en cada Tab solo las casillas cuya entrada cambió
+    private void render() {
+        Iterator<Entry> iterator = entries.iterator();
+        for (int skip = page * tabSlots.length; skip > 0 && iterator.hasNext(); skip--) {
+            iterator.next();
+        }
+
+        for (int index = 0; index < tabSlots.length; index++) {
+            Entry entry = iterator.hasNext() ? iterator.next() : null;
+            if (displayed[index] == entry) continue;
+
+            displayed[index] = entry;
+            for (PlayerTab tab : viewers.values()) {
+                showSlot(tab, index);
+            }
+        }
+    }
+
+    // Marca una casilla de la lista en la Tab de un jugador; el ping de la casilla refleja el del jugador mostrado
+    private void showSlot(PlayerTab tab, int index) {
+        Entry entry = displayed[index];
+        tab.bindLatency(tabSlots[index], entry == null ? null : entry.player);
+        tab.setSlot(tabSlots[index], entry == null ? " " : entry.text, 0, null, null);
+    }
+
+    // Jugador de la lista con los datos con los que se ordenó y se muestra
+    private static class Entry {
+
+        private final Player player;
+        private final int rank;
+        private final String sortName;
+        private final String text;
+
+        private Entry(Player player, int rank, String text) {
+            this.player = player;
+            this.rank = rank;
+            this.sortName = player.getName().toLowerCase(Locale.ROOT);
+            this.text = text;
+        }
+    }
+}
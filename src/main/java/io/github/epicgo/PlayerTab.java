@@ -1,15 +1,26 @@
 package io.github.epicgo;
 
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import io.github.epicgo.layout.TabEntry;
+import io.github.epicgo.layout.TabLayout;
 import io.github.epicgo.layout.TabLayoutManager;
+import io.github.epicgo.layout.TabLayoutSnapshot;
+import io.github.epicgo.layout.TabLayoutView;
+import io.github.epicgo.layout.TabSlot;
+import io.github.epicgo.metrics.TabMetrics;
 import io.github.epicgo.reflect.MinecraftReflection;
-import io.netty.util.internal.ConcurrentSet;
+import io.github.epicgo.reflect.PacketBatch;
 import org.bukkit.Bukkit;
-import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
 /**
@@ -17,14 +28,61 @@ import java.util.UUID;
  */
 public class PlayerTab {
 
-    private final Set<TabEntry> entries = new ConcurrentSet<>();
+    // Textos y texturas compartidos entre todas las Tabs; cada casilla solo guarda la referencia
+    private static final Interner<String> STRINGS = Interners.newWeakInterner();
+
+    // Último estado enviado de cada casilla, en arreglos paralelos indexados por casilla; hay 20 por cada columna mostrada.
+    // El UUID, el nombre y el GameProfile se obtienen de FakeProfilePool y SkinCache a partir de la casilla y la textura
+    private final String[] texts;
+    // Indica si el texto de cada casilla ya tiene los códigos de color traducidos
+    private final boolean[] translated;
+    private final int[] pings;
+    private final String[] values;
+    private final String[] signatures;
+    // Indica si los perfiles falsos se están mostrando al jugador
+    private boolean shown;
+    // Jugadores cuyo ping real se refleja en cada casilla, por UUID para no retener a los que salen del servidor;
+    // se crea con la primera casilla vinculada
+    private volatile UUID[] latencySources;
+    // Casillas reservadas para setSlot, que los diseños completos no sobrescriben; se crea con la primera reservada
+    private volatile boolean[] ownedSlots;
+    // Último encabezado y pie enviados; el cliente empieza sin ninguno
+    private String sentHeader = "", sentFooter = "";
     private final long setupMS;
+    // Última instantánea publicada desde cualquier hilo y la última aplicada en el hilo principal; la aplicada se
+    // lee y se escribe bajo el bloqueo de dirtySlots, porque ownSlot la descarta desde cualquier hilo
+    private volatile TabLayoutSnapshot publishedSnapshot;
+    private TabLayoutSnapshot appliedSnapshot;
+    // Casillas modificadas con setSlot que aún no se han enviado, y su nuevo contenido
+    private final BitSet dirtySlots = new BitSet(TabLayout.MAX_SLOTS);
+    private final TabSlot[] dirtyValues = new TabSlot[TabLayout.MAX_SLOTS];
     // Jugador asociado al objeto PlayerTab
     public Player player;
 
-    // Constructor para PlayerTab
+    // Constructor para PlayerTab con las 4 columnas de la Tab
     public PlayerTab(Player player) {
+        this(player, TabLayout.MAX_SLOTS / TabLayout.ROWS);
+    }
+
+    /**
+     * Crea la Tab de un jugador con un número de columnas reducido.
+     * El cliente reparte las casillas en columnas de 20, por lo que una Tab de 1 a 3 columnas
+     * envía y mantiene solo 20, 40 o 60 perfiles falsos; las casillas de columnas no mostradas se ignoran.
+     *
+     * @param player  el jugador.
+     * @param columns el número de columnas, de 1 a 4.
+     */
+    public PlayerTab(Player player, int columns) {
+        if (columns < 1 || columns * TabLayout.ROWS > TabLayout.MAX_SLOTS) {
+            throw new IllegalArgumentException("Invalid column count: " + columns);
+        }
+
         this.player = player;
+        this.texts = new String[columns * TabLayout.ROWS];
+        this.translated = new boolean[texts.length];
+        this.pings = new int[texts.length];
+        this.values = new String[texts.length];
+        this.signatures = new String[texts.length];
 
         setupMS = System.currentTimeMillis();
     }
@@ -33,71 +91,462 @@ public class PlayerTab {
      * Método para eliminar la Tab personalizada del jugador.
      */
     public void removeTab() {
+        long start = System.nanoTime();
+        TabRegistry.removeViewer(player);
+
         // Ocultar perfiles falsos y mostrar jugadores reales
-        hideFakePlayers();
-        showRealPlayers();
+        try (PacketBatch batch = PacketBatch.begin(player)) {
+            hideFakePlayers();
+            showRealPlayers();
+            sendHeaderFooter("", "");
+        }
 
-        entries.clear();
+        shown = false;
+        TabMetrics.recordRefresh(player, System.nanoTime() - start, texts.length);
     }
 
     /**
      * Método para mostrar la Tab personalizada al jugador.
      */
     public void showTab() {
+        long start = System.nanoTime();
+
         // Mostrar perfiles falsos y ocultar jugadores reales
-        showFakePlayers();
-        hideRealPlayers();
+        try (PacketBatch batch = PacketBatch.begin(player)) {
+            showFakePlayers();
+            hideRealPlayers();
+        }
+
+        TabRegistry.addViewer(this);
+        TabMetrics.recordRefresh(player, System.nanoTime() - start, texts.length);
+    }
+
+    /**
+     * Método para actualizar la Tab personalizada del jugador con el diseño actual del gestor.
+     *
+     * @param layoutManager el gestor que proporciona el diseño del jugador.
+     * @return el número de paquetes enviados.
+     */
+    public int updateTab(TabLayoutManager layoutManager) {
+        return updateTab(layoutManager.computeLayout(player));
+    }
+
+    /**
+     * Método para actualizar la Tab personalizada del jugador con un nuevo diseño.
+     * Solo se envían los textos y pings de las casillas que cambiaron desde el último envío;
+     * las casillas cuya textura cambió se vuelven a añadir con el perfil de {@link SkinCache}.
+     * El encabezado y el pie solo se envían si su texto es distinto del último recibido por el jugador.
+     *
+     * @param layout el nuevo diseño de la Tab.
+     * @return el número de paquetes enviados.
+     */
+    public int updateTab(TabLayoutView layout) {
+        long start = System.nanoTime();
+        List<TabEntry> changedText = new ArrayList<>();
+        List<TabEntry> changedPing = new ArrayList<>();
+        List<TabEntry> changedSkin = new ArrayList<>();
+
+        if (!shown) return 0;
+
+        boolean[] owned = ownedSlots;
+        for (int tabSlot = 0; tabSlot < texts.length; tabSlot++) {
+            if (owned != null && owned[tabSlot]) continue;
+            diffSlot(tabSlot, layout.getSlot(tabSlot), changedText, changedPing, changedSkin);
+        }
+
+        return sendChanges(start, layout, changedText, changedPing, changedSkin);
+    }
+
+    /**
+     * Cambia el contenido de una casilla sin recalcular el diseño completo.
+     * La casilla se marca como modificada y se envía en el siguiente {@link #flushSlots()};
+     * puede llamarse desde cualquier hilo. Si el jugador también recibe diseños completos,
+     * el siguiente diseño sobrescribe la casilla con su propio contenido, salvo que se haya reservado con
+     * {@link #ownSlot(int, boolean)}. Las posiciones fuera de las columnas mostradas se ignoran.
+     *
+     * @param tabSlot   la posición de la casilla.
+     * @param text      el texto de la casilla.
+     * @param ping      el ping de la casilla.
+     * @param value     el valor de la textura, o null para la casilla sin textura.
+     * @param signature la firma de la textura.
+     */
+    public void setSlot(int tabSlot, String text, int ping, String value, String signature) {
+        if (tabSlot < 0 || tabSlot >= texts.length) return;
+
+        synchronized (dirtySlots) {
+            dirtyValues[tabSlot] = new TabLayoutSnapshot.Slot(text, ping, value, signature);
+            dirtySlots.set(tabSlot);
+        }
+    }
+
+    public void setSlot(int x, int y, String text, int ping, String value, String signature) {
+        setSlot(y + x * TabLayoutSnapshot.ROWS, text, ping, value, signature);
+    }
+
+    public void setSlot(int x, int y, String text, int ping) {
+        setSlot(x, y, text, ping, null, null);
+    }
+
+    public void setSlot(int x, int y, String text) {
+        setSlot(x, y, text, 0, null, null);
+    }
+
+    /**
+     * Reserva una casilla para {@link #setSlot(int, String, int, String, String)}: los diseños completos dejan
+     * de sobrescribirla y el último contenido marcado se vuelve a enviar cuando la Tab se muestra de nuevo.
+     * Al liberarla, el siguiente diseño completo vuelve a ocuparla.
+     *
+     * @param tabSlot la posición de la casilla.
+     * @param owned   true para reservar la casilla, false para liberarla.
+     */
+    public void ownSlot(int tabSlot, boolean owned) {
+        if (tabSlot < 0 || tabSlot >= texts.length) return;
+
+        synchronized (dirtySlots) {
+            boolean[] slots = ownedSlots;
+            if (slots == null) {
+                if (!owned) return;
+                ownedSlots = slots = new boolean[texts.length];
+            }
+            slots[tabSlot] = owned;
+            if (owned) return;
+
+            if (!dirtySlots.get(tabSlot)) dirtyValues[tabSlot] = null;
+            // La última instantánea debe aplicarse de nuevo para ocupar la casilla liberada
+            appliedSnapshot = null;
+        }
+    }
+
+    /**
+     * Envía únicamente las casillas modificadas con {@link #setSlot(int, String, int, String, String)}
+     * desde el último envío. No hace nada si no hay casillas modificadas o la Tab no se está mostrando.
+     *
+     * @return el número de paquetes enviados.
+     */
+    public int flushSlots() {
+        long start = System.nanoTime();
+        List<TabEntry> changedText = new ArrayList<>();
+        List<TabEntry> changedPing = new ArrayList<>();
+        List<TabEntry> changedSkin = new ArrayList<>();
+
+        synchronized (dirtySlots) {
+            // Las casillas se conservan marcadas hasta que la Tab se muestre
+            if (dirtySlots.isEmpty() || !shown) return 0;
+
+            // Las casillas reservadas conservan su contenido para volver a enviarlo si la Tab se muestra de nuevo
+            boolean[] owned = ownedSlots;
+            for (int tabSlot = dirtySlots.nextSetBit(0); tabSlot >= 0 && tabSlot < texts.length; tabSlot = dirtySlots.nextSetBit(tabSlot + 1)) {
+                diffSlot(tabSlot, dirtyValues[tabSlot], changedText, changedPing, changedSkin);
+                if (owned == null || !owned[tabSlot]) dirtyValues[tabSlot] = null;
+            }
+            dirtySlots.clear();
+        }
+
+        return sendChanges(start, null, changedText, changedPing, changedSkin);
+    }
+
+    /**
+     * Publica una instantánea del diseño para que se aplique en el siguiente {@link #flushSnapshot()}.
+     * Puede llamarse desde cualquier hilo; solo se conserva la última instantánea publicada.
+     *
+     * @param snapshot la instantánea del diseño.
+     */
+    public void publishSnapshot(TabLayoutSnapshot snapshot) {
+        publishedSnapshot = snapshot;
+    }
+
+    /**
+     * Aplica la última instantánea publicada si cambió desde la última vez que se aplicó.
+     *
+     * @return el número de paquetes enviados.
+     */
+    public int flushSnapshot() {
+        TabLayoutSnapshot snapshot = publishedSnapshot;
+        synchronized (dirtySlots) {
+            if (snapshot == null || snapshot == appliedSnapshot) return 0;
+            appliedSnapshot = snapshot;
+        }
+        return updateTab(snapshot);
     }
 
     // Método para mostrar en el Tab a todos los jugadores reales en el servidor
     private void showRealPlayers() {
-        for (Player target : Bukkit.getOnlinePlayers()) {
-            // Enviar paquete para añadir jugador real al Tab
-            MinecraftReflection.sendPlayerInfoPacket(player, MinecraftReflection.EnumPlayerInfoAction.ADD_PLAYER, target);
-        }
+        // Enviar un único paquete para añadir a todos los jugadores reales al Tab
+        MinecraftReflection.sendPlayerInfoPacket(player, MinecraftReflection.EnumPlayerInfoAction.ADD_PLAYER, Bukkit.getOnlinePlayers());
     }
 
     // Método para esconder del Tab a todos los jugadores reales en el servidor
     private void hideRealPlayers() {
-        for (Player target : Bukkit.getOnlinePlayers()) {
-            // Enviar paquete para remover jugador real del Tab
-            MinecraftReflection.sendPlayerInfoPacket(player, MinecraftReflection.EnumPlayerInfoAction.REMOVE_PLAYER, target);
-        }
+        // Enviar un único paquete para remover a todos los jugadores reales del Tab
+        MinecraftReflection.sendPlayerInfoPacket(player, MinecraftReflection.EnumPlayerInfoAction.REMOVE_PLAYER, Bukkit.getOnlinePlayers());
     }
 
     // Método para mostrar todos los perfiles falsos creados para modificar el Tab al jugador
     private void showFakePlayers() {
-        for (int tabSlot = 0; tabSlot < 80; tabSlot++) {
-            TabEntry entry = new TabEntry().setId(UUID.randomUUID()).setName(getTeamName(tabSlot)).setTabSlot(tabSlot);
-            entries.add(entry);
-
-            // Crear perfiles falsos con UUIDs aleatorios y nombres de equipo formateados
-            MinecraftReflection.sendPlayerInfoPacket(player, MinecraftReflection.EnumPlayerInfoAction.ADD_PLAYER, MinecraftReflection.createGameProfile(entry.getId(), entry.getName()), entry.getPing(), MinecraftReflection.EnumGamemode.NOT_SET, entry.getTextLine());
+        // Las casillas empiezan vacías, con el perfil falso sin textura
+        Arrays.fill(texts, " ");
+        Arrays.fill(translated, false);
+        Arrays.fill(pings, 0);
+        Arrays.fill(values, null);
+        Arrays.fill(signatures, null);
+        shown = true;
+        // Las casillas vuelven a estar vacías, por lo que la última instantánea debe aplicarse de nuevo,
+        // y las casillas reservadas vuelven a marcarse con su último contenido
+        synchronized (dirtySlots) {
+            appliedSnapshot = null;
+            boolean[] owned = ownedSlots;
+            for (int tabSlot = 0; owned != null && tabSlot < owned.length; tabSlot++) {
+                if (owned[tabSlot] && dirtyValues[tabSlot] != null) dirtySlots.set(tabSlot);
+            }
         }
+
+        // Enviar todos los perfiles falsos en un único paquete; los nombres de ordenación del conjunto compartido
+        // mantienen el orden con cualquier número de casillas
+        MinecraftReflection.sendTabEntriesPacket(player, MinecraftReflection.EnumPlayerInfoAction.ADD_PLAYER, createEntries());
     }
 
     // Método para esconder todos los perfiles falsos del jugador
     private void hideFakePlayers() {
-        for (TabEntry entry : entries) {
-            // Enviar paquete para remover perfil falso del Tab
-            MinecraftReflection.sendPlayerInfoPacket(player, MinecraftReflection.EnumPlayerInfoAction.REMOVE_PLAYER, MinecraftReflection.createGameProfile(entry.getId(), entry.getName()), entry.getPing(), MinecraftReflection.EnumGamemode.NOT_SET, entry.getTextLine());
+        // El cliente deja de tener las casillas de la última instantánea aplicada
+        synchronized (dirtySlots) {
+            appliedSnapshot = null;
+        }
+
+        // Enviar un único paquete para remover todos los perfiles falsos del Tab
+        MinecraftReflection.sendTabEntriesPacket(player, MinecraftReflection.EnumPlayerInfoAction.REMOVE_PLAYER, createEntries());
+    }
+
+    // Compara una casilla con su último estado enviado y la añade a las listas de cambios que correspondan
+    private void diffSlot(int tabSlot, TabSlot slot, List<TabEntry> changedText, List<TabEntry> changedPing, List<TabEntry> changedSkin) {
+        // Las casillas que no aparecen en el diseño se muestran vacías
+        String textLine = slot == null ? " " : slot.getTextLine();
+        boolean textTranslated = slot != null && slot.isTranslated();
+        // Las casillas vinculadas a un jugador conservan su ping real
+        UUID[] sources = latencySources;
+        int ping = sources != null && sources[tabSlot] != null ? pings[tabSlot] : slot == null ? 0 : slot.getPing();
+        String value = slot == null ? null : slot.getValue();
+        String signature = slot == null ? null : slot.getSignature();
+
+        // Un cambio de textura obliga a volver a añadir el perfil, que ya incluye el texto y el ping
+        if (!Objects.equals(values[tabSlot], value) || !Objects.equals(signatures[tabSlot], signature)) {
+            values[tabSlot] = intern(value);
+            signatures[tabSlot] = intern(signature);
+            texts[tabSlot] = intern(textLine);
+            translated[tabSlot] = textTranslated;
+            pings[tabSlot] = ping;
+            changedSkin.add(createEntry(tabSlot));
+            return;
         }
+
+        // Comparar con el último estado enviado; los textos compartidos suelen coincidir por referencia
+        boolean textChanged = !Objects.equals(texts[tabSlot], textLine) || translated[tabSlot] != textTranslated;
+        boolean pingChanged = pings[tabSlot] != ping;
+        if (!textChanged && !pingChanged) return;
+
+        if (textChanged) {
+            texts[tabSlot] = intern(textLine);
+            translated[tabSlot] = textTranslated;
+        }
+        pings[tabSlot] = ping;
+
+        // Una sola entrada temporal sirve para los dos paquetes
+        TabEntry entry = createEntry(tabSlot);
+        if (textChanged) changedText.add(entry);
+        if (pingChanged) changedPing.add(entry);
+    }
+
+    // Crea la entrada con el último estado enviado de una casilla, solo para construir un paquete
+    private TabEntry createEntry(int tabSlot) {
+        return new TabEntry().setId(FakeProfilePool.getId(tabSlot)).setName(FakeProfilePool.getName(tabSlot))
+                .setGameProfile(SkinCache.getProfile(tabSlot, values[tabSlot], signatures[tabSlot])).setTabSlot(tabSlot)
+                .setTextLine(texts[tabSlot]).setTranslated(translated[tabSlot]).setPing(pings[tabSlot]).setValue(values[tabSlot]).setSignature(signatures[tabSlot]);
     }
 
-    // Método para obtener un nombre de equipo formateado basado en un valor entero
-    private String getTeamName(final int valueToFormat) {
-        if (valueToFormat >= 10) {
-            // Formato con dos colores para valores mayores o iguales a 10
-            int firstDigit = valueToFormat / 10;
-            int secondDigit = valueToFormat % 10;
-            return ChatColor.BOLD + "" + ChatColor.GREEN + ChatColor.UNDERLINE + ChatColor.YELLOW + ChatColor.COLOR_CHAR + firstDigit + ChatColor.COLOR_CHAR + secondDigit;
-        } else {
-            // Formato con un solo color para valores menores a 10
-            return ChatColor.BOLD + "" + ChatColor.BLACK + ChatColor.COLOR_CHAR + valueToFormat;
+    // Crea las entradas de todas las casillas
+    private List<TabEntry> createEntries() {
+        List<TabEntry> entries = new ArrayList<>(texts.length);
+        for (int tabSlot = 0; tabSlot < texts.length; tabSlot++) {
+            entries.add(createEntry(tabSlot));
+        }
+        return entries;
+    }
+
+    private static String intern(String string) {
+        return string == null ? null : STRINGS.intern(string);
+    }
+
+    // Envía únicamente las casillas que cambiaron, y el encabezado y el pie del diseño si lo hay,
+    // y devuelve el número de paquetes enviados
+    private int sendChanges(long start, TabLayoutView layout, List<TabEntry> changedText, List<TabEntry> changedPing, List<TabEntry> changedSkin) {
+        int packets = 0;
+        try (PacketBatch batch = PacketBatch.begin(player)) {
+            if (layout != null) {
+                packets += sendHeaderFooter(layout.getHeader() == null ? "" : layout.getHeader(), layout.getFooter() == null ? "" : layout.getFooter());
+            }
+            MinecraftReflection.sendTabEntriesPacket(player, MinecraftReflection.EnumPlayerInfoAction.REMOVE_PLAYER, changedSkin);
+            MinecraftReflection.sendTabEntriesPacket(player, MinecraftReflection.EnumPlayerInfoAction.ADD_PLAYER, changedSkin);
+            MinecraftReflection.sendTabEntriesPacket(player, MinecraftReflection.EnumPlayerInfoAction.UPDATE_DISPLAY_NAME, changedText);
+            MinecraftReflection.sendTabEntriesPacket(player, MinecraftReflection.EnumPlayerInfoAction.UPDATE_LATENCY, changedPing);
+        }
+
+        TabMetrics.recordRefresh(player, System.nanoTime() - start, changedSkin.size() + changedText.size() + changedPing.size());
+        return packets + (changedSkin.isEmpty() ? 0 : 2) + (changedText.isEmpty() ? 0 : 1) + (changedPing.isEmpty() ? 0 : 1);
+    }
+
+    // Envía el encabezado y el pie si son distintos de los últimos enviados al jugador
+    private int sendHeaderFooter(String header, String footer) {
+        if (header.equals(sentHeader) && footer.equals(sentFooter)) return 0;
+
+        sentHeader = header;
+        sentFooter = footer;
+        MinecraftReflection.sendHeaderFooterPacket(player, header, footer);
+        return 1;
+    }
+
+    /**
+     * Vincula una casilla al ping real de un jugador. El ping se agrupa en las barras de cobertura del cliente
+     * y solo se envía en {@link #mirrorLatency()} cuando cambia de barra; el ping de los diseños se ignora en esa casilla.
+     * La casilla guarda solo el UUID del jugador: mientras no está conectado se muestra sin conexión, y vuelve a
+     * mostrar su ping si entra de nuevo.
+     *
+     * @param tabSlot la posición de la casilla.
+     * @param source  el jugador cuyo ping se muestra, o null para desvincular la casilla.
+     */
+    public void bindLatency(int tabSlot, Player source) {
+        if (tabSlot < 0 || tabSlot >= texts.length) return;
+
+        UUID[] sources = latencySources;
+        if (sources == null) {
+            if (source == null) return;
+            latencySources = sources = new UUID[texts.length];
+        }
+        sources[tabSlot] = source == null ? null : source.getUniqueId();
+    }
+
+    /**
+     * Envía, en un único paquete, el ping de las casillas vinculadas cuya barra de cobertura cambió.
+     *
+     * @return el número de paquetes enviados.
+     */
+    public int mirrorLatency() {
+        return mirrorLatency(new HashMap<>());
+    }
+
+    /**
+     * Envía, en un único paquete, el ping de las casillas vinculadas cuya barra de cobertura cambió, reutilizando
+     * el ping ya leído de cada jugador. Al recorrer todas las Tabs, pasar el mismo mapa a cada una hace que el ping
+     * de cada jugador se lea una sola vez por pasada en lugar de una vez por casilla y Tab.
+     *
+     * @param quantizedPings el ping agrupado de los jugadores ya leídos en esta pasada, por UUID; se completa con los
+     *                       que falten.
+     * @return el número de paquetes enviados.
+     */
+    public int mirrorLatency(Map<UUID, Integer> quantizedPings) {
+        UUID[] sources = latencySources;
+        if (sources == null || !shown) return 0;
+
+        List<TabEntry> changedPing = null;
+        for (int tabSlot = 0; tabSlot < sources.length; tabSlot++) {
+            UUID sourceId = sources[tabSlot];
+            if (sourceId == null) continue;
+
+            Integer quantized = quantizedPings.get(sourceId);
+            if (quantized == null) {
+                Player source = Bukkit.getPlayer(sourceId);
+                quantized = quantizePing(source != null && source.isOnline() ? MinecraftReflection.getPing(source) : -1);
+                quantizedPings.put(sourceId, quantized);
+            }
+
+            int ping = quantized;
+            if (pings[tabSlot] == ping) continue;
+
+            pings[tabSlot] = ping;
+            if (changedPing == null) changedPing = new ArrayList<>();
+            changedPing.add(createEntry(tabSlot));
         }
+
+        if (changedPing == null) return 0;
+
+        try (PacketBatch batch = PacketBatch.begin(player)) {
+            MinecraftReflection.sendTabEntriesPacket(player, MinecraftReflection.EnumPlayerInfoAction.UPDATE_LATENCY, changedPing);
+        }
+        return 1;
     }
 
+    /**
+     * Agrupa un ping en las barras de cobertura que dibuja el cliente: devuelve el menor ping que muestra
+     * las mismas barras, para que los cambios dentro de una misma barra no generen paquetes.
+     *
+     * @param ping el ping en milisegundos, o un valor negativo si no hay conexión.
+     * @return -1 (sin conexión), 0 (5 barras), 150 (4), 300 (3), 600 (2) o 1000 (1 barra).
+     */
+    public static int quantizePing(int ping) {
+        if (ping < 0) return -1;
+        if (ping < 150) return 0;
+        if (ping < 300) return 150;
+        if (ping < 600) return 300;
+        if (ping < 1000) return 600;
+        return 1000;
+    }
+
+    /**
+     * Obtiene el número de columnas mostradas en la Tab del jugador.
+     *
+     * @return el número de columnas.
+     */
+    public int getColumns() {
+        return texts.length / TabLayout.ROWS;
+    }
+
+    /**
+     * Obtiene el último texto enviado en una casilla, sin crear objetos.
+     *
+     * @param tabSlot la posición de la casilla.
+     * @return el texto, o null si la casilla no existe o la Tab aún no se ha mostrado.
+     */
+    public String getText(int tabSlot) {
+        return tabSlot >= 0 && tabSlot < texts.length ? texts[tabSlot] : null;
+    }
+
+    /**
+     * Obtiene el último ping enviado en una casilla, sin crear objetos.
+     *
+     * @param tabSlot la posición de la casilla.
+     * @return el ping, o 0 si la casilla no existe.
+     */
+    public int getPing(int tabSlot) {
+        return tabSlot >= 0 && tabSlot < pings.length ? pings[tabSlot] : 0;
+    }
+
+    /**
+     * Obtiene el valor de la última textura enviada en una casilla, sin crear objetos.
+     *
+     * @param tabSlot la posición de la casilla.
+     * @return el valor de la textura, o null si la casilla no existe o no tiene textura.
+     */
+    public String getValue(int tabSlot) {
+        return tabSlot >= 0 && tabSlot < values.length ? values[tabSlot] : null;
+    }
+
+    /**
+     * Obtiene la firma de la última textura enviada en una casilla, sin crear objetos.
+     *
+     * @param tabSlot la posición de la casilla.
+     * @return la firma de la textura, o null si la casilla no existe o no tiene textura.
+     */
+    public String getSignature(int tabSlot) {
+        return tabSlot >= 0 && tabSlot < signatures.length ? signatures[tabSlot] : null;
+    }
+
+    /**
+     * Construye una copia del último estado enviado de una casilla, con su perfil falso.
+     * Cada llamada crea un {@link TabEntry} nuevo; para leer el estado en rutas frecuentes se usan
+     * {@link #getText(int)}, {@link #getPing(int)}, {@link #getValue(int)} y {@link #getSignature(int)}.
+     *
+     * @param tabSlot la posición de la casilla.
+     * @return una copia de la casilla, o null si no existe o la Tab no se está mostrando.
+     */
     public TabEntry getTabEntryBySlot(int tabSlot) {
-        return entries.stream().filter(tabEntry -> tabEntry.getTabSlot() == tabSlot).findFirst().orElse(null);
+        return shown && tabSlot >= 0 && tabSlot < texts.length ? createEntry(tabSlot) : null;
     }
 }
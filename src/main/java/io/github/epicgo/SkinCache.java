@@ -0,0 +1,149 @@
+package io.github.epicgo;
+
+import io.github.epicgo.layout.TabLayout;
+import io.github.epicgo.reflect.MinecraftReflection;
+import lombok.Getter;
+import org.apache.commons.io.FileUtils;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+/**
+ * Caché compartida de las texturas (skins) usadas en las casillas de la Tab.
+ * <p>
+ * Cada GameProfile con textura se crea una sola vez por casilla, valor y firma de textura, y se reutiliza
+ * entre todos los jugadores. Las texturas pueden precargarse desde una carpeta local fuera del hilo principal:
+ * cada archivo {@code <nombre>.skin} contiene el valor de la textura en la primera línea y su firma en la segunda.
+ */
+public final class SkinCache {
+
+    // Número máximo de texturas distintas que se mantienen por casilla
+    private static final int MAX_PROFILES_PER_SLOT = 64;
+
+    // Texturas cargadas desde la carpeta local, por nombre
+    private static final Map<String, Skin> SKINS = new ConcurrentHashMap<>();
+    // GameProfiles con textura de cada casilla, por valor de la textura y en orden de acceso para el desalojo LRU;
+    // cada uno guarda su firma, y una firma distinta para el mismo valor crea un perfil nuevo
+    private static final Map<String, SignedProfile>[] PROFILES = createProfileMaps();
+
+    private SkinCache() {
+    }
+
+    /**
+     * Obtiene el GameProfile del perfil falso de una casilla con la textura indicada.
+     *
+     * @param tabSlot   la posición de la casilla.
+     * @param value     el valor de la textura, o null para el perfil sin textura.
+     * @param signature la firma de la textura.
+     * @return el GameProfile compartido.
+     */
+    public static Object getProfile(int tabSlot, String value, String signature) {
+        if (value == null) return FakeProfilePool.getProfile(tabSlot);
+
+        Map<String, SignedProfile> profiles = PROFILES[tabSlot];
+        synchronized (profiles) {
+            SignedProfile cached = profiles.get(value);
+            if (cached == null || !Objects.equals(cached.signature, signature)) {
+                cached = new SignedProfile(signature, MinecraftReflection.createGameProfileWithProperties(FakeProfilePool.getId(tabSlot), FakeProfilePool.getName(tabSlot), "textures", value, signature));
+                profiles.put(value, cached);
+            }
+            return cached.profile;
+        }
+    }
+
+    /**
+     * Obtiene una textura cargada desde la carpeta local.
+     *
+     * @param name el nombre de la textura (nombre del archivo sin la extensión).
+     * @return la textura, o null si no se ha cargado.
+     */
+    public static Skin getSkin(String name) {
+        return SKINS.get(name);
+    }
+
+    /**
+     * Registra una textura con un nombre.
+     *
+     * @param name      el nombre de la textura.
+     * @param value     el valor de la textura.
+     * @param signature la firma de la textura.
+     */
+    public static void putSkin(String name, String value, String signature) {
+        SKINS.put(name, new Skin(value, signature));
+    }
+
+    /**
+     * Carga de forma asíncrona todas las texturas {@code *.skin} de una carpeta.
+     *
+     * @param plugin    el plugin que ejecuta la tarea.
+     * @param directory la carpeta con las texturas.
+     */
+    public static void preload(Plugin plugin, File directory) {
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            File[] files = directory.listFiles((dir, name) -> name.endsWith(".skin"));
+            if (files == null) return;
+
+            for (File file : files) {
+                try {
+                    List<String> lines = FileUtils.readLines(file, StandardCharsets.UTF_8);
+                    if (lines.isEmpty()) continue;
+
+                    String name = file.getName().substring(0, file.getName().length() - ".skin".length());
+                    putSkin(name, lines.get(0).trim(), lines.size() > 1 ? lines.get(1).trim() : null);
+                } catch (IOException e) {
+                    plugin.getLogger().log(Level.WARNING, "Error al cargar la textura " + file.getName(), e);
+                }
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, SignedProfile>[] createProfileMaps() {
+        Map<String, SignedProfile>[] maps = new Map[TabLayout.MAX_SLOTS];
+        for (int tabSlot = 0; tabSlot < maps.length; tabSlot++) {
+            maps[tabSlot] = new LinkedHashMap<String, SignedProfile>(16, 0.75F, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, SignedProfile> eldest) {
+                    return size() > MAX_PROFILES_PER_SLOT;
+                }
+            };
+        }
+        return maps;
+    }
+
+    // GameProfile con textura y la firma con la que se creó
+    private static class SignedProfile {
+
+        private final String signature;
+        private final Object profile;
+
+        private SignedProfile(String signature, Object profile) {
+            this.signature = signature;
+            this.profile = profile;
+        }
+    }
+
+    /**
+     * Textura de un perfil: valor y firma de la propiedad "textures".
+     */
+    @Getter
+    public static class Skin {
+
+        private final String value;
+        private final String signature;
+
+        public Skin(String value, String signature) {
+            this.value = value;
+            this.signature = signature;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package io.github.epicgo;
+
+import io.github.epicgo.metrics.TabMetrics;
+import io.github.epicgo.reflect.MinecraftReflection;
+import io.github.epicgo.reflect.PacketBatch;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Registro global de los jugadores que tienen una Tab personalizada.
+ * <p>
+ * El servidor añade a cada jugador que entra al Tab de todos los demás justo después del {@link PlayerJoinEvent}.
+ * Las entradas de cada tick se agrupan y, en el tick siguiente, cada jugador con Tab personalizada recibe
+ * un único paquete que elimina solo a los jugadores que acaban de entrar, en lugar de volver a ocultar a todos.
+ */
+public final class TabRegistry implements Listener {
+
+    // Tabs personalizadas mostradas, por UUID del jugador
+    private static final Map<UUID, PlayerTab> VIEWERS = new ConcurrentHashMap<>();
+    // Jugadores que entraron y cuya entrada aún no se ha ocultado
+    private static final Queue<Player> PENDING_JOINS = new ConcurrentLinkedQueue<>();
+    // Indica si ya hay una tarea programada para procesar las entradas pendientes
+    private static final AtomicBoolean FLUSH_SCHEDULED = new AtomicBoolean();
+
+    private static Plugin plugin;
+
+    private TabRegistry() {
+    }
+
+    /**
+     * Registra los eventos necesarios para ocultar a los jugadores que entran de las Tabs personalizadas.
+     *
+     * @param plugin el plugin que registra los eventos.
+     */
+    public static void register(Plugin plugin) {
+        if (TabRegistry.plugin != null) return;
+
+        TabRegistry.plugin = plugin;
+        Bukkit.getPluginManager().registerEvents(new TabRegistry(), plugin);
+    }
+
+    /**
+     * Registra la Tab personalizada de un jugador.
+     *
+     * @param tab la Tab del jugador.
+     */
+    public static void addViewer(PlayerTab tab) {
+        VIEWERS.put(tab.player.getUniqueId(), tab);
+    }
+
+    /**
+     * Elimina la Tab personalizada de un jugador del registro.
+     *
+     * @param player el jugador.
+     * @return la Tab eliminada, o null si el jugador no tenía una Tab personalizada.
+     */
+    public static PlayerTab removeViewer(Player player) {
+        return VIEWERS.remove(player.getUniqueId());
+    }
+
+    /**
+     * Verifica si un jugador tiene una Tab personalizada.
+     *
+     * @param player el jugador.
+     * @return true si tiene una Tab personalizada, false de lo contrario.
+     */
+    public static boolean isViewer(Player player) {
+        return VIEWERS.containsKey(player.getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        PENDING_JOINS.add(event.getPlayer());
+
+        // Las entradas del mismo tick se procesan juntas en el tick siguiente
+        if (FLUSH_SCHEDULED.compareAndSet(false, true)) {
+            Bukkit.getScheduler().runTask(plugin, TabRegistry::flushPendingJoins);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        removeViewer(event.getPlayer());
+        TabMetrics.remove(event.getPlayer());
+    }
+
+    // Oculta a los jugadores que entraron de todas las Tabs personalizadas, con un paquete por jugador
+    private static void flushPendingJoins() {
+        FLUSH_SCHEDULED.set(false);
+
+        // La lista es el contenido del paquete; el conjunto permite comprobar en O(1) si cada Tab es de quien entró
+        List<Player> joined = new ArrayList<>();
+        Set<UUID> joinedIds = new HashSet<>();
+        Player player;
+        while ((player = PENDING_JOINS.poll()) != null) {
+            if (player.isOnline() && joinedIds.add(player.getUniqueId())) joined.add(player);
+        }
+
+        if (joined.isEmpty()) return;
+
+        for (PlayerTab tab : VIEWERS.values()) {
+            try (PacketBatch batch = PacketBatch.begin(tab.player)) {
+                // Quien acaba de entrar recibió a todos los jugadores reales después de mostrar su Tab
+                if (joinedIds.contains(tab.player.getUniqueId())) {
+                    MinecraftReflection.sendPlayerInfoPacket(tab.player, MinecraftReflection.EnumPlayerInfoAction.REMOVE_PLAYER, Bukkit.getOnlinePlayers());
+                } else {
+                    MinecraftReflection.sendPlayerInfoPacket(tab.player, MinecraftReflection.EnumPlayerInfoAction.REMOVE_PLAYER, joined);
+                }
+            }
+        }
+    }
+}
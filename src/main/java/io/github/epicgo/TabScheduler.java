@@ -0,0 +1,541 @@
+package io.github.epicgo;
+
+import io.github.epicgo.layout.TabLayoutManager;
+import io.github.epicgo.layout.TabLayoutSnapshot;
+import io.github.epicgo.layout.TabLayoutView;
+import io.github.epicgo.reflect.PacketBatch;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerChatEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+
+/**
+ * Planificador central que refresca las Tabs personalizadas de los jugadores.
+ * Los diseños se calculan fuera del hilo principal y se reparten entre varios ticks,
+ * mientras que el envío de paquetes en el hilo principal respeta un presupuesto por tick.
+ * <p>
+ * Cada diseño se calcula en un {@link Executor} intercambiable; por defecto se usan hilos virtuales
+ * si el servidor se ejecuta en Java 21 o superior, y un grupo acotado de hilos en caso contrario.
+ * Si un diseño tarda más que {@link #getLayoutTimeoutMillis()}, la Tab conserva el último diseño válido, que es el que
+ * el cliente ya muestra, y no se inicia otro cálculo para el jugador hasta que termine; si tarda
+ * {@link #getAbandonTimeouts()} veces ese tiempo, el cálculo se cancela, se avisa en el registro y se vuelve a calcular.
+ * <p>
+ * La frecuencia de refresco se adapta a cada jugador: tras {@link #getBackoffCycles()} ciclos sin cambios,
+ * el intervalo se duplica hasta {@link #getMaxBackoffCycles()} ciclos, y los jugadores inactivos durante
+ * {@link #getAfkMillis()} pasan a refrescarse cada {@link #getAfkCycles()} ciclos. {@link #invalidate(Player)}
+ * y cualquier actividad de un jugador inactivo devuelven al jugador a la frecuencia normal.
+ */
+public class TabScheduler implements Listener {
+
+    // Tabs registradas por UUID del jugador
+    private final Map<UUID, PlayerTab> tabs = new ConcurrentHashMap<>();
+    // Diseños calculados pendientes de enviar, y el orden en el que se calcularon
+    private final Map<UUID, TabLayoutView> pendingLayouts = new ConcurrentHashMap<>();
+    private final Queue<UUID> pendingOrder = new ConcurrentLinkedQueue<>();
+    // Diseños de grupo del ciclo de refresco actual, calculados o en cálculo, por clave de grupo. Cada ciclo usa un
+    // mapa nuevo, y cada cálculo conserva el de su ciclo, por lo que los cálculos atrasados no afectan al ciclo actual
+    private volatile ConcurrentMap<Object, CompletableFuture<TabLayoutSnapshot>> groupLayouts = new ConcurrentHashMap<>();
+    // Cálculos en curso, incluidos los que superaron el tiempo máximo, por UUID del jugador
+    private final Map<UUID, LayoutTask> runningLayouts = new ConcurrentHashMap<>();
+    // Estado de la frecuencia de refresco adaptativa, por UUID del jugador
+    private final Map<UUID, RefreshState> refreshStates = new ConcurrentHashMap<>();
+
+    @Getter
+    private final Plugin plugin;
+    @Getter
+    private final TabLayoutManager layoutManager;
+
+    // Número de ticks entre dos refrescos de un mismo jugador; en cada tick se calcula 1/N de los jugadores
+    @Getter
+    @Setter
+    @Accessors(chain = true)
+    private int refreshTicks = 20;
+    // Número máximo de paquetes enviados por tick
+    @Getter
+    @Setter
+    @Accessors(chain = true)
+    private int maxPacketsPerTick = 400;
+    // Tiempo máximo, en milisegundos, dedicado al envío de paquetes por tick
+    @Getter
+    @Setter
+    @Accessors(chain = true)
+    private long maxMillisPerTick = 2;
+    // Número de ticks entre dos comprobaciones del ping de las casillas vinculadas con PlayerTab#bindLatency
+    @Getter
+    @Setter
+    @Accessors(chain = true)
+    private int latencyTicks = 40;
+    // Tiempo máximo, en milisegundos, que puede tardar el cálculo de un diseño
+    @Getter
+    @Setter
+    @Accessors(chain = true)
+    private long layoutTimeoutMillis = 250;
+    // Número de veces el tiempo máximo de cálculo tras el que un cálculo se cancela y el jugador puede volver a calcularse
+    @Getter
+    @Setter
+    @Accessors(chain = true)
+    private int abandonTimeouts = 20;
+    // Número de ciclos seguidos sin cambios tras los que se duplica el intervalo de refresco de un jugador
+    @Getter
+    @Setter
+    @Accessors(chain = true)
+    private int backoffCycles = 3;
+    // Intervalo máximo, en ciclos, que se alcanza duplicando el intervalo; 1 desactiva la frecuencia adaptativa
+    @Getter
+    @Setter
+    @Accessors(chain = true)
+    private int maxBackoffCycles = 8;
+    // Tiempo sin actividad, en milisegundos, tras el que un jugador se considera inactivo
+    @Getter
+    @Setter
+    @Accessors(chain = true)
+    private long afkMillis = TimeUnit.MINUTES.toMillis(5);
+    // Intervalo de refresco, en ciclos, de los jugadores inactivos
+    @Getter
+    @Setter
+    @Accessors(chain = true)
+    private int afkCycles = 30;
+    // Ejecutor donde se calculan los diseños; si es null se crea el ejecutor por defecto al iniciar
+    @Getter
+    @Setter
+    @Accessors(chain = true)
+    private Executor executor;
+
+    // Número de ticks en los que se agotó algún presupuesto
+    @Getter
+    private volatile long overruns;
+    // Número de diseños que superaron el tiempo máximo de cálculo
+    @Getter
+    private volatile long layoutTimeouts;
+
+    // Ejecutor por defecto creado por este planificador, que se cierra al detenerlo
+    private ExecutorService defaultExecutor;
+    // Número de secuencia del último cálculo iniciado; los resultados más antiguos que el último aplicado se descartan
+    private final AtomicLong layoutSequence = new AtomicLong();
+
+    private BukkitTask computeTask, sendTask;
+    private long computeTick, sendTick, lastOverrunReport = -20 * 60;
+
+    // Constructor para TabScheduler
+    public TabScheduler(Plugin plugin, TabLayoutManager layoutManager) {
+        this.plugin = plugin;
+        this.layoutManager = layoutManager;
+    }
+
+    /**
+     * Inicia las tareas de reparto de los cálculos y de envío de los diseños, ambas en el hilo principal;
+     * los diseños se calculan en el ejecutor.
+     *
+     * @return este planificador.
+     */
+    public TabScheduler start() {
+        if (computeTask == null) {
+            if (executor == null) executor = defaultExecutor = createDefaultExecutor();
+            Bukkit.getPluginManager().registerEvents(this, plugin);
+
+            // El reparto solo encola cálculos en el ejecutor; en el hilo principal dos ejecuciones nunca se solapan,
+            // por lo que los contadores de ticks y de tiempos agotados no necesitan sincronización
+            computeTask = Bukkit.getScheduler().runTaskTimer(plugin, this::computeLayouts, 1L, 1L);
+            sendTask = Bukkit.getScheduler().runTaskTimer(plugin, this::sendLayouts, 1L, 1L);
+        }
+        return this;
+    }
+
+    /**
+     * Detiene las tareas del planificador y descarta los diseños pendientes.
+     */
+    public void stop() {
+        if (computeTask != null) {
+            computeTask.cancel();
+            sendTask.cancel();
+            computeTask = sendTask = null;
+            HandlerList.unregisterAll(this);
+        }
+
+        // Solo se cierra el ejecutor por defecto; si se sustituyó con setExecutor, se conserva el elegido
+        if (defaultExecutor != null) {
+            defaultExecutor.shutdownNow();
+            if (executor == defaultExecutor) executor = null;
+            defaultExecutor = null;
+        }
+
+        pendingLayouts.clear();
+        pendingOrder.clear();
+        groupLayouts = new ConcurrentHashMap<>();
+        runningLayouts.clear();
+        refreshStates.clear();
+    }
+
+    /**
+     * Registra la Tab de un jugador para que sea refrescada por el planificador.
+     *
+     * @param tab la Tab del jugador.
+     */
+    public void addTab(PlayerTab tab) {
+        // Los cálculos iniciados antes de registrar la Tab (por ejemplo, antes de volver a entrar) se descartan
+        refreshStates.put(tab.player.getUniqueId(), new RefreshState(layoutSequence.get()));
+        tabs.put(tab.player.getUniqueId(), tab);
+    }
+
+    /**
+     * Elimina la Tab de un jugador del planificador.
+     *
+     * @param player el jugador.
+     * @return la Tab eliminada, o null si el jugador no estaba registrado.
+     */
+    public PlayerTab removeTab(Player player) {
+        pendingLayouts.remove(player.getUniqueId());
+        runningLayouts.remove(player.getUniqueId());
+        refreshStates.remove(player.getUniqueId());
+        return tabs.remove(player.getUniqueId());
+    }
+
+    /**
+     * Devuelve a un jugador a la frecuencia de refresco normal y hace que su diseño se calcule en su próximo turno,
+     * por ejemplo después de un cambio que el diseño debe reflejar cuanto antes.
+     *
+     * @param player el jugador.
+     */
+    public void invalidate(Player player) {
+        RefreshState state = refreshStates.get(player.getUniqueId());
+        if (state != null) state.reset();
+    }
+
+    /**
+     * Devuelve a todos los jugadores a la frecuencia de refresco normal.
+     */
+    public void invalidateAll() {
+        for (RefreshState state : refreshStates.values()) {
+            state.reset();
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerMove(PlayerMoveEvent event) {
+        markActive(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerChat(AsyncPlayerChatEvent event) {
+        markActive(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerInteract(PlayerInteractEvent event) {
+        markActive(event.getPlayer());
+    }
+
+    // Registra la actividad de un jugador; si estaba inactivo, vuelve a la frecuencia normal
+    private void markActive(Player player) {
+        RefreshState state = refreshStates.get(player.getUniqueId());
+        if (state == null) return;
+
+        long now = System.currentTimeMillis();
+        if (now - state.lastActive >= afkMillis) state.reset();
+        state.lastActive = now;
+    }
+
+    // Reparte en el hilo principal, entre el ejecutor, los cálculos de los diseños de la fracción de jugadores que
+    // corresponde a este tick
+    private void computeLayouts() {
+        long cycle = computeTick / refreshTicks;
+        int bucket = (int) (computeTick++ % refreshTicks);
+        long now = System.currentTimeMillis();
+
+        // Cada ciclo completo empieza con los diseños de grupo vacíos
+        if (bucket == 0) groupLayouts = new ConcurrentHashMap<>();
+        ConcurrentMap<Object, CompletableFuture<TabLayoutSnapshot>> groupCache = groupLayouts;
+
+        expireLayouts();
+
+        for (Map.Entry<UUID, PlayerTab> entry : tabs.entrySet()) {
+            if (Math.floorMod(entry.getKey().hashCode(), refreshTicks) != bucket) continue;
+
+            // No se inicia otro cálculo mientras el anterior siga en curso
+            UUID uuid = entry.getKey();
+            if (runningLayouts.containsKey(uuid)) continue;
+
+            // Los jugadores sin cambios recientes o inactivos esperan a su siguiente turno, salvo que se hayan invalidado
+            RefreshState state = refreshStates.get(uuid);
+            if (state != null) {
+                if (!state.forced) {
+                    if (cycle < state.nextCycle) continue;
+                    if (now - state.lastActive >= afkMillis && cycle < state.lastCycle + afkCycles) continue;
+                }
+                state.forced = false;
+                state.lastCycle = cycle;
+            }
+
+            Player player = entry.getValue().player;
+            LayoutTask task = new LayoutTask(layoutSequence.incrementAndGet(), System.nanoTime());
+            runningLayouts.put(uuid, task);
+
+            CompletableFuture<TabLayoutView> future;
+            try {
+                future = task.future = layoutManager.computeLayoutAsync(player, groupCache, task.track(executor));
+            } catch (RejectedExecutionException e) {
+                runningLayouts.remove(uuid, task);
+                continue;
+            }
+
+            future.whenComplete((layout, error) -> {
+                runningLayouts.remove(uuid, task);
+
+                // Los cálculos abandonados ya se avisaron al cancelarlos
+                if (task.abandoned) return;
+
+                if (error != null) {
+                    plugin.getLogger().log(Level.WARNING, "Error al calcular el diseño de la Tab de " + player.getName(), error.getCause() != null ? error.getCause() : error);
+                } else if (layout != null && tabs.containsKey(uuid)) {
+                    // Un resultado más antiguo que el último aplicado no debe sustituirlo
+                    RefreshState current = refreshStates.get(uuid);
+                    if (current != null && !current.accept(task.sequence)) return;
+
+                    enqueueLayout(uuid, layout);
+                }
+            });
+        }
+    }
+
+    // Cuenta los cálculos que superaron el tiempo máximo y cancela los que siguen en curso tras abandonTimeouts veces ese tiempo
+    private void expireLayouts() {
+        long now = System.nanoTime();
+        long timeout = TimeUnit.MILLISECONDS.toNanos(layoutTimeoutMillis);
+        long abandon = timeout * Math.max(1, abandonTimeouts);
+
+        for (Map.Entry<UUID, LayoutTask> entry : runningLayouts.entrySet()) {
+            LayoutTask task = entry.getValue();
+            long elapsed = now - task.startNanos;
+
+            // Un cálculo que no termina dejaría la Tab congelada: se cancela y el jugador vuelve a calcularse en su turno
+            if (elapsed >= abandon) {
+                if (!runningLayouts.remove(entry.getKey(), task)) continue;
+
+                task.abandon();
+                PlayerTab tab = tabs.get(entry.getKey());
+                plugin.getLogger().warning("El cálculo del diseño de la Tab de " + (tab != null ? tab.player.getName() : entry.getKey())
+                        + " no terminó en " + TimeUnit.NANOSECONDS.toMillis(elapsed) + " ms; se cancela y se volverá a calcular.");
+                continue;
+            }
+
+            // El cálculo lento sigue en curso hasta que termine, para no iniciar otro para el mismo jugador; mientras
+            // tanto la Tab conserva el último diseño válido, que es el que el cliente ya muestra
+            if (task.timedOut || elapsed < timeout) continue;
+
+            task.timedOut = true;
+            layoutTimeouts++;
+        }
+    }
+
+    // Encola un diseño para enviarlo; si el jugador ya tenía uno pendiente, se reemplaza
+    private void enqueueLayout(UUID uuid, TabLayoutView layout) {
+        if (pendingLayouts.put(uuid, layout) == null) {
+            pendingOrder.add(uuid);
+        }
+    }
+
+    // Envía en el hilo principal los diseños pendientes sin superar el presupuesto del tick.
+    // Todos los paquetes de un jugador en el tick (ping, diseño y casillas) se escriben en un mismo lote y se vacían una vez
+    private void sendLayouts() {
+        sendTick++;
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxMillisPerTick);
+        int packets = 0;
+        boolean overrun = false;
+        // El ping solo se envía cuando cambia de barra, por lo que suele costar muy pocos paquetes
+        boolean mirrorLatency = sendTick % latencyTicks == 0;
+        // Jugadores que ya recibieron sus paquetes en este tick
+        Set<UUID> refreshed = new HashSet<>();
+        // Ping agrupado de cada jugador mostrado, leído una sola vez para todas las Tabs
+        Map<UUID, Integer> quantizedPings = mirrorLatency ? new HashMap<>() : null;
+
+        UUID uuid;
+        while ((uuid = pendingOrder.peek()) != null) {
+            if (packets >= maxPacketsPerTick || System.nanoTime() >= deadline) {
+                overrun = true;
+                break;
+            }
+
+            pendingOrder.poll();
+            TabLayoutView layout = pendingLayouts.remove(uuid);
+            PlayerTab tab = tabs.get(uuid);
+            if (layout == null || tab == null) continue;
+
+            int sent;
+            try (PacketBatch batch = PacketBatch.begin(tab.player)) {
+                if (mirrorLatency) packets += tab.mirrorLatency(quantizedPings);
+                sent = tab.updateTab(layout);
+                packets += sent + tab.flushSlots();
+            }
+            refreshed.add(uuid);
+
+            RefreshState state = refreshStates.get(uuid);
+            if (state != null) state.onRefresh(sent > 0, backoffCycles, maxBackoffCycles);
+        }
+
+        // Resto de jugadores: el ping, y las casillas cambiadas directamente con PlayerTab#setSlot; las casillas que
+        // no quepan en el tick se envían en el siguiente, pero el ping no depende del presupuesto
+        for (Map.Entry<UUID, PlayerTab> entry : tabs.entrySet()) {
+            if (refreshed.contains(entry.getKey())) continue;
+
+            boolean flushSlots = !overrun && packets < maxPacketsPerTick && System.nanoTime() < deadline;
+            if (!flushSlots) {
+                overrun = true;
+                if (!mirrorLatency) break;
+            }
+
+            PlayerTab tab = entry.getValue();
+            try (PacketBatch batch = PacketBatch.begin(tab.player)) {
+                if (mirrorLatency) packets += tab.mirrorLatency(quantizedPings);
+                if (flushSlots) packets += tab.flushSlots();
+            }
+        }
+
+        if (overrun) reportOverrun(packets);
+    }
+
+    // Registra que el presupuesto del tick se agotó, avisando como máximo una vez por minuto
+    private void reportOverrun(int packets) {
+        overruns++;
+
+        if (sendTick - lastOverrunReport >= 20 * 60) {
+            lastOverrunReport = sendTick;
+            plugin.getLogger().warning("El refresco de la Tab superó el presupuesto del tick (" + packets + " paquetes, "
+                    + pendingOrder.size() + " jugadores pendientes, " + overruns + " excesos en total).");
+        }
+    }
+
+    // Crea el ejecutor por defecto: hilos virtuales en Java 21 o superior y, si no, un grupo acotado de hilos
+    private static ExecutorService createDefaultExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger count = new AtomicInteger();
+            ThreadFactory factory = runnable -> {
+                Thread thread = new Thread(runnable, "Tab Layout Thread #" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+            return Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors() / 2), factory);
+        }
+    }
+
+    // Frecuencia de refresco adaptativa de un jugador, medida en ciclos completos de refreshTicks
+    private static class RefreshState {
+
+        private volatile long lastActive = System.currentTimeMillis();
+        // Ciclo del último cálculo y primer ciclo en el que puede volver a calcularse
+        private volatile long lastCycle, nextCycle;
+        private volatile int interval = 1, unchanged;
+        // Indica si el siguiente turno del jugador debe calcularse aunque esté espaciado o inactivo
+        private volatile boolean forced;
+        // Número de secuencia del último diseño aceptado
+        private long acceptedSequence;
+
+        private RefreshState(long acceptedSequence) {
+            this.acceptedSequence = acceptedSequence;
+        }
+
+        // Acepta el resultado de un cálculo solo si es más reciente que el último aceptado
+        private synchronized boolean accept(long sequence) {
+            if (sequence <= acceptedSequence) return false;
+
+            acceptedSequence = sequence;
+            return true;
+        }
+
+        // Ajusta el intervalo según si el último diseño cambió algo en la Tab
+        private void onRefresh(boolean changed, int backoffCycles, int maxBackoffCycles) {
+            if (changed) {
+                unchanged = 0;
+                interval = 1;
+            } else if (++unchanged >= backoffCycles) {
+                interval = Math.max(1, Math.min(interval * 2, maxBackoffCycles));
+            }
+            nextCycle = lastCycle + interval;
+        }
+
+        private void reset() {
+            unchanged = 0;
+            interval = 1;
+            nextCycle = 0;
+            forced = true;
+        }
+    }
+
+    // Cálculo de un diseño en curso
+    private static class LayoutTask {
+
+        private final long sequence;
+        private final long startNanos;
+        // Indica si el cálculo superó el tiempo máximo, y si se canceló por no terminar
+        private volatile boolean timedOut, abandoned;
+        // Resultado del cálculo, y el hilo que ejecuta la etapa en curso del cálculo, para poder interrumpirlo
+        private volatile CompletableFuture<TabLayoutView> future;
+        private Thread thread;
+
+        private LayoutTask(long sequence, long startNanos) {
+            this.sequence = sequence;
+            this.startNanos = startNanos;
+        }
+
+        // Ejecuta las etapas del cálculo en el ejecutor, recordando el hilo de cada etapa mientras se ejecuta
+        private Executor track(Executor executor) {
+            return runnable -> executor.execute(() -> {
+                synchronized (this) {
+                    thread = Thread.currentThread();
+                }
+                try {
+                    runnable.run();
+                } finally {
+                    synchronized (this) {
+                        thread = null;
+                        // El hilo vuelve al ejecutor sin la interrupción dirigida a este cálculo
+                        Thread.interrupted();
+                    }
+                }
+            });
+        }
+
+        // Cancela el cálculo e interrumpe la etapa en curso, si el ejecutor la está ejecutando
+        private void abandon() {
+            synchronized (this) {
+                abandoned = true;
+                if (thread != null) thread.interrupt();
+            }
+
+            CompletableFuture<TabLayoutView> current = future;
+            if (current != null) current.cancel(true);
+        }
+    }
+}
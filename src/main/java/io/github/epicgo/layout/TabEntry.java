@@ -9,15 +9,19 @@ import java.util.UUID;
 @Getter
 @Setter
 @Accessors(chain = true)
-public class TabEntry {
+public class TabEntry implements TabSlot {
 
     private UUID id;
     private String name;
+    // GameProfile (NMS) ya creado para esta entrada; si es null se crea a partir del id y el nombre
+    private Object gameProfile;
 
     private int tabSlot;
     private int ping = 0;
 
     private String textLine = " ";
+    // Indica si el texto ya tiene los códigos de color traducidos
+    private boolean translated;
     private String value;
     private String signature;
 }
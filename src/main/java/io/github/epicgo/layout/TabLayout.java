@@ -1,16 +1,25 @@
 package io.github.epicgo.layout;
 
-import io.netty.util.internal.ConcurrentSet;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 @Getter
 @Setter
-public class TabLayout {
+public class TabLayout implements TabLayoutView {
 
-    private final Set<TabEntry> entries = new ConcurrentSet<>();
+    // Número máximo de casillas de la Tab (4 columnas de 20 filas)
+    public static final int MAX_SLOTS = 80;
+    // Filas de cada columna de la Tab
+    public static final int ROWS = 20;
+
+    // Casillas del diseño indexadas por su posición; null si la casilla no fue definida
+    @Getter(AccessLevel.NONE)
+    private final TabEntry[] entries = new TabEntry[MAX_SLOTS];
 
     private String header;
     private String footer;
@@ -20,7 +29,7 @@ public class TabLayout {
     }
 
     public void addSlot(int tabSlot, String text, int ping, String value, String signature) {
-        entries.add(new TabEntry().setTabSlot(tabSlot).setTextLine(text).setPing(ping).setValue(value).setSignature(signature));
+        putEntry(tabSlot, new TabEntry().setTabSlot(tabSlot).setTextLine(text).setPing(ping).setValue(value).setSignature(signature));
     }
 
     public void addSlot(int x, int y, String text, int ping) {
@@ -28,7 +37,7 @@ public class TabLayout {
     }
 
     public void addSlot(int tabSlot, String text, int ping) {
-        entries.add(new TabEntry().setTabSlot(tabSlot).setTextLine(text).setPing(ping));
+        putEntry(tabSlot, new TabEntry().setTabSlot(tabSlot).setTextLine(text).setPing(ping));
     }
 
     public void addSlot(int x, int y, String text, String value, String signature) {
@@ -36,7 +45,7 @@ public class TabLayout {
     }
 
     public void addSlot(int tabSlot, String text, String value, String signature) {
-        entries.add(new TabEntry().setTabSlot(tabSlot).setTextLine(text).setValue(value).setSignature(signature));
+        putEntry(tabSlot, new TabEntry().setTabSlot(tabSlot).setTextLine(text).setValue(value).setSignature(signature));
     }
 
     public void addSlot(int x, int y, String text) {
@@ -44,17 +53,68 @@ public class TabLayout {
     }
 
     public void addSlot(int tabSlot, String text) {
-        entries.add(new TabEntry().setTabSlot(tabSlot).setTextLine(text));
+        putEntry(tabSlot, new TabEntry().setTabSlot(tabSlot).setTextLine(text));
+    }
+
+    /**
+     * Añade una casilla cuyo texto ya tiene los códigos de color traducidos, como el de {@link TextTemplate#render};
+     * los caracteres '&amp;' del texto se envían tal cual.
+     *
+     * @param tabSlot la posición de la casilla.
+     * @param text    el texto ya traducido.
+     * @param ping    el ping de la casilla.
+     */
+    public void addTranslatedSlot(int tabSlot, String text, int ping) {
+        putEntry(tabSlot, new TabEntry().setTabSlot(tabSlot).setTextLine(text).setTranslated(true).setPing(ping));
+    }
+
+    public void addTranslatedSlot(int x, int y, String text, int ping) {
+        addTranslatedSlot(convertXandYToIndex(x, y), text, ping);
+    }
+
+    /**
+     * Obtiene la casilla definida en la posición indicada.
+     *
+     * @param tabSlot la posición de la casilla.
+     * @return la casilla, o null si no fue definida.
+     */
+    public TabEntry getEntry(int tabSlot) {
+        return tabSlot >= 0 && tabSlot < MAX_SLOTS ? entries[tabSlot] : null;
+    }
+
+    @Override
+    public TabSlot getSlot(int tabSlot) {
+        return getEntry(tabSlot);
+    }
+
+    /**
+     * Obtiene una copia de las casillas definidas, en orden de posición.
+     * Modificar el conjunto devuelto no cambia el diseño; para eso se usa {@code addSlot}.
+     *
+     * @return las casillas definidas.
+     */
+    public Set<TabEntry> getEntries() {
+        Set<TabEntry> defined = new LinkedHashSet<>();
+        for (TabEntry entry : entries) {
+            if (entry != null) defined.add(entry);
+        }
+        return Collections.unmodifiableSet(defined);
+    }
+
+    // Guarda una casilla, sustituyendo la anterior; las posiciones fuera de la Tab se ignoran, como en PlayerTab#setSlot
+    private void putEntry(int tabSlot, TabEntry entry) {
+        if (tabSlot < 0 || tabSlot >= MAX_SLOTS) return;
+        entries[tabSlot] = entry;
     }
 
     /**
-     * Convierte un par de coordenadas (x, y) en un índice en un arreglo bidimensional de tamaño 20x20.
+     * Convierte un par de coordenadas (x, y) en un índice en el arreglo de casillas, con columnas de {@value #ROWS} filas.
      *
      * @param x la coordenada x.
      * @param y la coordenada y.
      * @return el índice correspondiente en el arreglo bidimensional.
      */
     public int convertXandYToIndex(int x, int y) {
-        return y + x * 20;
+        return y + x * ROWS;
     }
 }
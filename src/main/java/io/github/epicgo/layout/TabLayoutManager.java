@@ -1,11 +1,110 @@
 package io.github.epicgo.layout;
 
+import io.github.epicgo.metrics.TabMetrics;
 import org.bukkit.entity.Player;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
 public abstract class TabLayoutManager {
 
     public abstract TabLayout getLayout(Player player);
 
+    /**
+     * Calcula el diseño del jugador registrando el tiempo de cálculo en {@link TabMetrics}.
+     *
+     * @param player el jugador.
+     * @return el diseño del jugador.
+     */
+    public final TabLayout computeLayout(Player player) {
+        if (!TabMetrics.isEnabled()) return getLayout(player);
+
+        long start = System.nanoTime();
+        try {
+            return getLayout(player);
+        } finally {
+            TabMetrics.recordLayout(player, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Obtiene la clave del grupo del jugador (por ejemplo, mundo + rango).
+     * Los jugadores con la misma clave comparten un único diseño calculado por ciclo de refresco.
+     *
+     * @param player el jugador.
+     * @return la clave del grupo, o null si el jugador no comparte diseño (por defecto).
+     */
+    public Object getGroupKey(Player player) {
+        return null;
+    }
+
+    /**
+     * Calcula el diseño compartido de un grupo. Por defecto usa {@link #getLayout(Player)} con el primer
+     * jugador del grupo que se refresca en el ciclo.
+     *
+     * @param groupKey la clave del grupo.
+     * @param player   un jugador del grupo.
+     * @return el diseño compartido del grupo.
+     */
+    public TabLayoutView getGroupLayout(Object groupKey, Player player) {
+        return getLayout(player);
+    }
+
+    /**
+     * Aplica las casillas propias de un jugador sobre el diseño compartido de su grupo.
+     * Por defecto no cambia nada.
+     *
+     * @param player  el jugador.
+     * @param builder el constructor que parte del diseño compartido.
+     */
+    public void applyOverrides(Player player, TabLayoutSnapshot.Builder builder) {
+    }
+
+    /**
+     * Calcula en un ejecutor el diseño del jugador usando la caché de diseños de grupo del ciclo de refresco actual.
+     * Si el jugador no tiene grupo, equivale a {@link #computeLayout(Player)}.
+     * <p>
+     * Cada diseño de grupo se calcula una sola vez aunque varios jugadores del grupo se calculen a la vez: el primero
+     * lo calcula y el resto encadena sus casillas propias al resultado, sin ocupar un hilo del ejecutor mientras espera.
+     * La caché debe pertenecer a un único ciclo, de modo que los cálculos de un ciclo anterior no dejen en ella
+     * diseños antiguos.
+     *
+     * @param player     el jugador.
+     * @param groupCache los diseños de grupo del ciclo, calculados o en cálculo, por clave de grupo.
+     * @param executor   el ejecutor donde se calculan el diseño de grupo y las casillas propias.
+     * @return el diseño del jugador, cuando termine de calcularse.
+     */
+    public final CompletableFuture<TabLayoutView> computeLayoutAsync(Player player, ConcurrentMap<Object, CompletableFuture<TabLayoutSnapshot>> groupCache, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> getGroupKey(player), executor).thenCompose(groupKey -> {
+            if (groupKey == null) return CompletableFuture.completedFuture(computeLayout(player));
+
+            CompletableFuture<TabLayoutSnapshot> created = new CompletableFuture<>();
+            CompletableFuture<TabLayoutSnapshot> shared = groupCache.putIfAbsent(groupKey, created);
+
+            // Solo el jugador que registró el cálculo lo realiza, en el hilo en el que ya se ejecuta
+            if (shared == null) {
+                shared = created;
+                long start = System.nanoTime();
+                try {
+                    created.complete(TabLayoutSnapshot.of(getGroupLayout(groupKey, player)));
+                    TabMetrics.recordLayout(player, System.nanoTime() - start);
+                } catch (RuntimeException | Error e) {
+                    // Los jugadores que esperaban reciben el mismo error; el siguiente jugador del grupo lo vuelve a intentar
+                    groupCache.remove(groupKey, created);
+                    created.completeExceptionally(e);
+                }
+            }
+
+            // Las casillas propias se añaden sobre el diseño compartido sin copiar las columnas sin cambios
+            return shared.thenApplyAsync(snapshot -> {
+                TabLayoutSnapshot.Builder builder = snapshot.toBuilder();
+                applyOverrides(player, builder);
+                return builder.build();
+            }, executor);
+        });
+    }
+
     protected TabLayout createTabLayout(Player player) {
         // Aquí puedes inicializar un nuevo objeto TabLayout según tus necesidades
         return new TabLayout();
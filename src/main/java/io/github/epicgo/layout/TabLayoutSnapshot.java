@@ -0,0 +1,238 @@
+package io.github.epicgo.layout;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Diseño inmutable de la Tab que puede calcularse en cualquier hilo y publicarse sin bloqueos.
+ * <p>
+ * Las casillas se guardan por columnas de {@value #ROWS} filas. Un {@link Builder} creado a partir de una
+ * instantánea anterior solo copia las columnas que realmente cambian, por lo que las columnas sin cambios
+ * se comparten entre instantáneas.
+ * <pre>
+ * TabLayoutSnapshot next = previous.toBuilder().setSlot(1, 3, "&amp;eMonedas: " + coins).build();
+ * </pre>
+ */
+public final class TabLayoutSnapshot implements TabLayoutView {
+
+    // Filas por columna, igual que en TabLayout#convertXandYToIndex
+    public static final int ROWS = TabLayout.ROWS;
+    // Número de columnas de la Tab
+    public static final int COLUMNS = TabLayout.MAX_SLOTS / ROWS;
+
+    /**
+     * Instantánea sin casillas, encabezado ni pie.
+     */
+    public static final TabLayoutSnapshot EMPTY = new TabLayoutSnapshot(new Slot[COLUMNS][ROWS], null, null);
+
+    // Columnas de casillas; nunca se modifican una vez publicadas
+    private final Slot[][] columns;
+    @Getter
+    private final String header;
+    @Getter
+    private final String footer;
+
+    private TabLayoutSnapshot(Slot[][] columns, String header, String footer) {
+        this.columns = columns;
+        this.header = header;
+        this.footer = footer;
+    }
+
+    /**
+     * Crea un constructor de instantáneas vacío.
+     *
+     * @return el constructor.
+     */
+    public static Builder builder() {
+        return EMPTY.toBuilder();
+    }
+
+    /**
+     * Crea una instantánea con el contenido de un diseño.
+     *
+     * @param layout el diseño.
+     * @return la instantánea; el propio diseño si ya es una instantánea.
+     */
+    public static TabLayoutSnapshot of(TabLayoutView layout) {
+        if (layout instanceof TabLayoutSnapshot) return (TabLayoutSnapshot) layout;
+
+        Builder builder = builder().setHeader(layout.getHeader()).setFooter(layout.getFooter());
+        for (int tabSlot = 0; tabSlot < TabLayout.MAX_SLOTS; tabSlot++) {
+            TabSlot slot = layout.getSlot(tabSlot);
+            if (slot != null) {
+                builder.putSlot(tabSlot, new Slot(slot.getTextLine(), slot.isTranslated(), slot.getPing(), slot.getValue(), slot.getSignature()));
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Crea un constructor que parte de esta instantánea y comparte sus columnas hasta que se modifiquen.
+     *
+     * @return el constructor.
+     */
+    public Builder toBuilder() {
+        return new Builder(this);
+    }
+
+    @Override
+    public Slot getSlot(int tabSlot) {
+        return columns[tabSlot / ROWS][tabSlot % ROWS];
+    }
+
+    /**
+     * Verifica si una columna es la misma (sin copiar) que la de otra instantánea.
+     *
+     * @param other  la otra instantánea.
+     * @param column el índice de la columna.
+     * @return true si ambas instantáneas comparten la columna, false de lo contrario.
+     */
+    public boolean sharesColumn(TabLayoutSnapshot other, int column) {
+        return columns[column] == other.columns[column];
+    }
+
+    /**
+     * Casilla inmutable de una instantánea.
+     */
+    @Getter
+    public static final class Slot implements TabSlot {
+
+        private final String textLine;
+        private final boolean translated;
+        private final int ping;
+        private final String value;
+        private final String signature;
+
+        public Slot(String textLine, int ping, String value, String signature) {
+            this(textLine, false, ping, value, signature);
+        }
+
+        public Slot(String textLine, boolean translated, int ping, String value, String signature) {
+            this.textLine = textLine;
+            this.translated = translated;
+            this.ping = ping;
+            this.value = value;
+            this.signature = signature;
+        }
+
+        // Verifica si la casilla tiene el contenido indicado
+        private boolean matches(String textLine, boolean translated, int ping, String value, String signature) {
+            return this.ping == ping && this.translated == translated && Objects.equals(this.textLine, textLine)
+                    && Objects.equals(this.value, value) && Objects.equals(this.signature, signature);
+        }
+    }
+
+    /**
+     * Constructor de instantáneas con copia por columna al escribir.
+     * No es seguro usarlo desde varios hilos a la vez, pero cada hilo puede tener el suyo.
+     */
+    public static final class Builder {
+
+        private final Slot[][] columns;
+        // Columnas ya copiadas desde la última instantánea construida
+        private final boolean[] copied = new boolean[COLUMNS];
+        private String header;
+        private String footer;
+
+        private Builder(TabLayoutSnapshot base) {
+            this.columns = base.columns.clone();
+            this.header = base.header;
+            this.footer = base.footer;
+        }
+
+        public Builder setSlot(int x, int y, String text, int ping, String value, String signature) {
+            return setSlot(y + x * ROWS, text, ping, value, signature);
+        }
+
+        public Builder setSlot(int tabSlot, String text, int ping, String value, String signature) {
+            Slot current = columns[tabSlot / ROWS][tabSlot % ROWS];
+
+            // No se copia la columna si la casilla ya tiene ese contenido
+            if (current != null && current.matches(text, false, ping, value, signature)) return this;
+
+            return putSlot(tabSlot, new Slot(text, ping, value, signature));
+        }
+
+        /**
+         * Cambia una casilla cuyo texto ya tiene los códigos de color traducidos, como el de {@link TextTemplate#render}.
+         *
+         * @param tabSlot la posición de la casilla.
+         * @param text    el texto ya traducido.
+         * @param ping    el ping de la casilla.
+         * @return este constructor.
+         */
+        public Builder setTranslatedSlot(int tabSlot, String text, int ping) {
+            Slot current = columns[tabSlot / ROWS][tabSlot % ROWS];
+            if (current != null && current.matches(text, true, ping, null, null)) return this;
+
+            return putSlot(tabSlot, new Slot(text, true, ping, null, null));
+        }
+
+        public Builder setTranslatedSlot(int x, int y, String text, int ping) {
+            return setTranslatedSlot(y + x * ROWS, text, ping);
+        }
+
+        public Builder setSlot(int x, int y, String text, int ping) {
+            return setSlot(x, y, text, ping, null, null);
+        }
+
+        public Builder setSlot(int tabSlot, String text, int ping) {
+            return setSlot(tabSlot, text, ping, null, null);
+        }
+
+        public Builder setSlot(int x, int y, String text) {
+            return setSlot(x, y, text, 0, null, null);
+        }
+
+        public Builder setSlot(int tabSlot, String text) {
+            return setSlot(tabSlot, text, 0, null, null);
+        }
+
+        /**
+         * Elimina el contenido de una casilla.
+         *
+         * @param tabSlot la posición de la casilla.
+         * @return este constructor.
+         */
+        public Builder clearSlot(int tabSlot) {
+            if (columns[tabSlot / ROWS][tabSlot % ROWS] == null) return this;
+
+            return putSlot(tabSlot, null);
+        }
+
+        public Builder setHeader(String header) {
+            this.header = header;
+            return this;
+        }
+
+        public Builder setFooter(String footer) {
+            this.footer = footer;
+            return this;
+        }
+
+        /**
+         * Construye la instantánea. El constructor puede seguir usándose después para crear la siguiente.
+         *
+         * @return la instantánea inmutable.
+         */
+        public TabLayoutSnapshot build() {
+            // Las columnas pasan a pertenecer a la instantánea; la siguiente escritura las vuelve a copiar
+            Arrays.fill(copied, false);
+            return new TabLayoutSnapshot(columns.clone(), header, footer);
+        }
+
+        // Escribe una casilla copiando antes su columna si aún se comparte
+        private Builder putSlot(int tabSlot, Slot slot) {
+            int column = tabSlot / ROWS;
+            if (!copied[column]) {
+                columns[column] = columns[column].clone();
+                copied[column] = true;
+            }
+
+            columns[column][tabSlot % ROWS] = slot;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.epicgo.layout;
+
+/**
+ * Vista de solo lectura de un diseño de la Tab, implementada por {@link TabLayout} y {@link TabLayoutSnapshot}.
+ */
+public interface TabLayoutView {
+
+    /**
+     * Obtiene el contenido de una casilla.
+     *
+     * @param tabSlot la posición de la casilla.
+     * @return el contenido de la casilla, o null si no fue definida.
+     */
+    TabSlot getSlot(int tabSlot);
+
+    /**
+     * Obtiene el encabezado de la Tab.
+     *
+     * @return el encabezado, o null si no tiene.
+     */
+    String getHeader();
+
+    /**
+     * Obtiene el pie de la Tab.
+     *
+     * @return el pie, o null si no tiene.
+     */
+    String getFooter();
+}
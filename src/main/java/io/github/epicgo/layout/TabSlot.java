@@ -0,0 +1,45 @@
+package io.github.epicgo.layout;
+
+/**
+ * Contenido de una casilla de la Tab: texto, ping y textura.
+ */
+public interface TabSlot {
+
+    /**
+     * Obtiene el texto de la casilla.
+     *
+     * @return el texto de la casilla.
+     */
+    String getTextLine();
+
+    /**
+     * Obtiene el ping mostrado en la casilla.
+     *
+     * @return el ping de la casilla.
+     */
+    int getPing();
+
+    /**
+     * Obtiene el valor de la textura de la casilla.
+     *
+     * @return el valor de la textura, o null si la casilla no tiene textura.
+     */
+    String getValue();
+
+    /**
+     * Obtiene la firma de la textura de la casilla.
+     *
+     * @return la firma de la textura, o null si no tiene.
+     */
+    String getSignature();
+
+    /**
+     * Verifica si el texto de la casilla ya tiene los códigos de color traducidos, como el de {@link TextTemplate#render},
+     * en cuyo caso no se vuelven a traducir los códigos '&amp;' al enviarlo.
+     *
+     * @return true si el texto ya está traducido, false si usa códigos de color '&amp;'.
+     */
+    default boolean isTranslated() {
+        return false;
+    }
+}
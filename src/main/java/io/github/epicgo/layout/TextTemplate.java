@@ -0,0 +1,128 @@
+package io.github.epicgo.layout;
+
+import org.bukkit.ChatColor;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plantilla de texto para las casillas de la Tab, compilada una sola vez.
+ * El texto se divide en segmentos literales, con los códigos de color '&amp;' ya traducidos,
+ * y variables con el formato {@code {nombre}} que se resuelven en cada renderizado.
+ * <pre>
+ * TextTemplate template = TextTemplate.compile("&amp;7Monedas: &amp;e{coins}");
+ * layout.addTranslatedSlot(0, 1, template.render(player, resolver), 0);
+ * </pre>
+ */
+public final class TextTemplate {
+
+    // StringBuilder reutilizado por cada hilo para renderizar las plantillas
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(StringBuilder::new);
+
+    // Segmentos literales; siempre hay uno más que variables
+    private final String[] literals;
+    // Nombres de las variables, entre cada par de segmentos literales
+    private final String[] placeholders;
+
+    private TextTemplate(String[] literals, String[] placeholders) {
+        this.literals = literals;
+        this.placeholders = placeholders;
+    }
+
+    /**
+     * Compila un texto en una plantilla, traduciendo sus códigos de color.
+     *
+     * @param text el texto con variables {@code {nombre}} y códigos de color '&amp;'.
+     * @return la plantilla compilada.
+     */
+    public static TextTemplate compile(String text) {
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+
+        StringBuilder literal = new StringBuilder();
+        int index = 0;
+
+        while (index < text.length()) {
+            int open = text.indexOf('{', index);
+            int close = open < 0 ? -1 : text.indexOf('}', open + 1);
+
+            // No quedan más variables: el resto del texto es literal
+            if (close < 0) {
+                literal.append(text, index, text.length());
+                break;
+            }
+
+            // Una llave vacía "{}" se mantiene como texto literal
+            if (close == open + 1) {
+                literal.append(text, index, close + 1);
+                index = close + 1;
+                continue;
+            }
+
+            literal.append(text, index, open);
+            literals.add(ChatColor.translateAlternateColorCodes('&', literal.toString()));
+            placeholders.add(text.substring(open + 1, close));
+
+            literal.setLength(0);
+            index = close + 1;
+        }
+
+        literals.add(ChatColor.translateAlternateColorCodes('&', literal.toString()));
+        return new TextTemplate(literals.toArray(new String[0]), placeholders.toArray(new String[0]));
+    }
+
+    /**
+     * Verifica si la plantilla no tiene variables, es decir, si siempre se renderiza igual.
+     *
+     * @return true si la plantilla no tiene variables, false de lo contrario.
+     */
+    public boolean isConstant() {
+        return placeholders.length == 0;
+    }
+
+    /**
+     * Renderiza la plantilla para un jugador.
+     * Las variables que el resolvedor no conoce (devuelve null) se mantienen tal cual en el texto.
+     * El texto ya está traducido, por lo que debe añadirse con {@link TabLayout#addTranslatedSlot(int, String, int)}
+     * o {@link TabLayoutSnapshot.Builder#setTranslatedSlot(int, String, int)}, para que los '&amp;' de los valores
+     * de las variables no se conviertan en colores.
+     *
+     * @param player   el jugador para el que se renderiza la plantilla.
+     * @param resolver el resolvedor de las variables.
+     * @return el texto renderizado.
+     */
+    public String render(Player player, PlaceholderResolver resolver) {
+        if (placeholders.length == 0) return literals[0];
+
+        StringBuilder builder = BUILDER.get();
+        builder.setLength(0);
+        builder.append(literals[0]);
+
+        for (int i = 0; i < placeholders.length; i++) {
+            String value = resolver.resolve(player, placeholders[i]);
+
+            if (value != null) builder.append(value);
+            else builder.append('{').append(placeholders[i]).append('}');
+
+            builder.append(literals[i + 1]);
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Resolvedor de las variables de una plantilla.
+     */
+    public interface PlaceholderResolver {
+
+        /**
+         * Resuelve el valor de una variable para un jugador.
+         *
+         * @param player      el jugador.
+         * @param placeholder el nombre de la variable, sin llaves.
+         * @return el valor de la variable, o null si no se conoce.
+         */
+        String resolve(Player player, String placeholder);
+    }
+}
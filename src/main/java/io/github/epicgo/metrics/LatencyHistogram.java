@@ -0,0 +1,114 @@
+package io.github.epicgo.metrics;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma sin bloqueos con cubetas logarítmico-lineales, al estilo de HdrHistogram.
+ * Cada potencia de dos se divide en {@value #SUB_BUCKETS} cubetas, por lo que el error relativo
+ * de los percentiles es como máximo del 12,5%.
+ */
+public final class LatencyHistogram {
+
+    // Bits y número de subcubetas por cada potencia de dos
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(64 * SUB_BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Registra un valor en el histograma.
+     *
+     * @param value el valor, normalmente en nanosegundos; los valores negativos se registran como 0.
+     */
+    public void record(long value) {
+        if (value < 0) value = 0;
+
+        counts.incrementAndGet(indexOf(value));
+        count.increment();
+        sum.add(value);
+
+        long current;
+        while (value > (current = max.get()) && !max.compareAndSet(current, value)) {
+            // Reintentar hasta publicar el nuevo máximo
+        }
+    }
+
+    /**
+     * Obtiene una instantánea del histograma.
+     *
+     * @return la instantánea con el número de valores, la media, los percentiles 50, 95 y 99 y el máximo.
+     */
+    public Snapshot snapshot() {
+        long[] copy = new long[counts.length()];
+        long total = 0;
+        for (int i = 0; i < copy.length; i++) {
+            total += copy[i] = counts.get(i);
+        }
+
+        long maxValue = max.get();
+        return new Snapshot(total, total == 0 ? 0 : sum.sum() / (double) total,
+                percentile(copy, total, 50, maxValue), percentile(copy, total, 95, maxValue), percentile(copy, total, 99, maxValue), maxValue);
+    }
+
+    // Obtiene el valor más alto de la cubeta que contiene el percentil indicado
+    private static long percentile(long[] counts, long total, double percentile, long maxValue) {
+        if (total == 0) return 0;
+
+        long target = (long) Math.ceil(total * percentile / 100.0);
+        long cumulative = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            if (cumulative >= target) {
+                return Math.min(i + 1 < counts.length ? lowestValueAt(i + 1) - 1 : Long.MAX_VALUE, maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+    // Índice de la cubeta de un valor no negativo
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) ((value >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+        return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    // Valor más bajo que corresponde a una cubeta
+    private static long lowestValueAt(int index) {
+        if (index < SUB_BUCKETS) return index;
+
+        int magnitude = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        return (long) (SUB_BUCKETS + index % SUB_BUCKETS) << (magnitude - SUB_BUCKET_BITS);
+    }
+
+    /**
+     * Instantánea inmutable de un histograma.
+     */
+    @Getter
+    public static class Snapshot {
+
+        private final long count;
+        private final double mean;
+        private final long p50;
+        private final long p95;
+        private final long p99;
+        private final long max;
+
+        public Snapshot(long count, double mean, long p50, long p95, long p99, long max) {
+            this.count = count;
+            this.mean = mean;
+            this.p50 = p50;
+            this.p95 = p95;
+            this.p99 = p99;
+            this.max = max;
+        }
+    }
+}
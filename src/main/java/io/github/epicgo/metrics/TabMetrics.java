@@ -0,0 +1,169 @@
+package io.github.epicgo.metrics;
+
+import lombok.Getter;
+import org.bukkit.entity.Player;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Métricas del coste de la Tab: tiempo de cálculo de los diseños, tiempo de refresco,
+ * paquetes enviados, bytes estimados y casillas cambiadas.
+ * Se mantienen por jugador y en conjunto, con contadores e histogramas sin bloqueos.
+ */
+public final class TabMetrics {
+
+    // Métricas de todos los jugadores en conjunto
+    private static final TabMetrics GLOBAL = new TabMetrics();
+    // Métricas de cada jugador, por UUID
+    private static final Map<UUID, TabMetrics> PLAYERS = new ConcurrentHashMap<>();
+
+    // Indica si se registran las métricas
+    private static volatile boolean enabled;
+
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder packets = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder slotsChanged = new LongAdder();
+    private final LatencyHistogram layoutTime = new LatencyHistogram();
+    private final LatencyHistogram refreshTime = new LatencyHistogram();
+
+    private TabMetrics() {
+    }
+
+    /**
+     * Verifica si se registran las métricas.
+     *
+     * @return true si se registran, false de lo contrario.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Activa o desactiva el registro de las métricas.
+     *
+     * @param enabled true para activarlo, false para desactivarlo.
+     */
+    public static void setEnabled(boolean enabled) {
+        TabMetrics.enabled = enabled;
+    }
+
+    /**
+     * Obtiene las métricas de todos los jugadores en conjunto.
+     *
+     * @return las métricas globales.
+     */
+    public static TabMetrics global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Obtiene las métricas de un jugador.
+     *
+     * @param player el jugador.
+     * @return las métricas del jugador, o null si no se registró nada para él.
+     */
+    public static TabMetrics of(Player player) {
+        return PLAYERS.get(player.getUniqueId());
+    }
+
+    /**
+     * Descarta las métricas de un jugador.
+     *
+     * @param player el jugador.
+     */
+    public static void remove(Player player) {
+        PLAYERS.remove(player.getUniqueId());
+    }
+
+    /**
+     * Registra el tiempo de cálculo de un diseño.
+     *
+     * @param player el jugador para el que se calculó el diseño.
+     * @param nanos  el tiempo de cálculo en nanosegundos.
+     */
+    public static void recordLayout(Player player, long nanos) {
+        if (!enabled) return;
+
+        GLOBAL.layoutTime.record(nanos);
+        forPlayer(player).layoutTime.record(nanos);
+    }
+
+    /**
+     * Registra un refresco de la Tab.
+     *
+     * @param player       el jugador cuya Tab se refrescó.
+     * @param nanos        el tiempo del refresco en nanosegundos.
+     * @param slotsChanged el número de casillas enviadas.
+     */
+    public static void recordRefresh(Player player, long nanos, int slotsChanged) {
+        if (!enabled) return;
+
+        GLOBAL.addRefresh(nanos, slotsChanged);
+        forPlayer(player).addRefresh(nanos, slotsChanged);
+    }
+
+    /**
+     * Registra un paquete enviado.
+     *
+     * @param player         el jugador al que se envió el paquete.
+     * @param estimatedBytes el tamaño estimado del paquete, o 0 si no se conoce.
+     */
+    public static void recordPacket(Player player, int estimatedBytes) {
+        if (!enabled) return;
+
+        GLOBAL.addPacket(estimatedBytes);
+        forPlayer(player).addPacket(estimatedBytes);
+    }
+
+    /**
+     * Obtiene una instantánea de estas métricas.
+     *
+     * @return la instantánea.
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(refreshes.sum(), packets.sum(), bytes.sum(), slotsChanged.sum(), layoutTime.snapshot(), refreshTime.snapshot());
+    }
+
+    private static TabMetrics forPlayer(Player player) {
+        return PLAYERS.computeIfAbsent(player.getUniqueId(), uuid -> new TabMetrics());
+    }
+
+    private void addRefresh(long nanos, int slots) {
+        refreshes.increment();
+        slotsChanged.add(slots);
+        refreshTime.record(nanos);
+    }
+
+    private void addPacket(int estimatedBytes) {
+        packets.increment();
+        bytes.add(estimatedBytes);
+    }
+
+    /**
+     * Instantánea inmutable de las métricas de la Tab.
+     */
+    @Getter
+    public static class Snapshot {
+
+        private final long refreshes;
+        private final long packets;
+        private final long bytes;
+        private final long slotsChanged;
+        // Tiempos en nanosegundos
+        private final LatencyHistogram.Snapshot layoutTime;
+        private final LatencyHistogram.Snapshot refreshTime;
+
+        public Snapshot(long refreshes, long packets, long bytes, long slotsChanged, LatencyHistogram.Snapshot layoutTime, LatencyHistogram.Snapshot refreshTime) {
+            this.refreshes = refreshes;
+            this.packets = packets;
+            this.bytes = bytes;
+            this.slotsChanged = slotsChanged;
+            this.layoutTime = layoutTime;
+            this.refreshTime = refreshTime;
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package io.github.epicgo.reflect;
 
-import org.bukkit.ChatColor;
+import io.github.epicgo.layout.TabEntry;
+import io.github.epicgo.metrics.TabMetrics;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
 import org.bukkit.entity.Player;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
@@ -34,12 +40,36 @@ public class MinecraftReflection {
      * Accede al campo de la conexión de un jugador en la clase EntityPlayer.
      */
     public static final Reflection.FieldAccessor<?> PLAYER_CONNECTION_FIELD = Reflection.getField(NMS_ENTITY_PLAYER_CLASS, NMS_PLAYER_CONNECTION_CLASS, 0);
+    /**
+     * Accede al campo del ping del jugador en la clase EntityPlayer.
+     */
+    public static final Reflection.FieldAccessor<Integer> PING_FIELD = Reflection.getField(NMS_ENTITY_PLAYER_CLASS, "ping", int.class);
+    // Clase de NetworkManager de Minecraft
+    public static final Class<?> NMS_NETWORK_MANAGER_CLASS = Reflection.getMinecraftClass("NetworkManager");
+    /**
+     * Accede al campo del NetworkManager en la clase PlayerConnection.
+     */
+    public static final Reflection.FieldAccessor<?> NETWORK_MANAGER_FIELD = Reflection.getField(NMS_PLAYER_CONNECTION_CLASS, NMS_NETWORK_MANAGER_CLASS, 0);
+    /**
+     * Accede al canal de netty en la clase NetworkManager.
+     */
+    public static final Reflection.FieldAccessor<Channel> CHANNEL_FIELD = Reflection.getField(NMS_NETWORK_MANAGER_CLASS, Channel.class, 0);
+    // Handles de los invocadores usados en cada paquete enviado. Al ser static final, el JIT los trata como constantes
+    // e integra la llamada a getHandle, sendPacket y la lectura de los campos
+    private static final MethodHandle GET_HANDLE = GET_CRAFTPLAYER_HANDLE_METHOD.getMethodHandle();
+    private static final MethodHandle SEND_PACKET = SEND_PACKET_METHOD.getMethodHandle().asType(MethodType.methodType(void.class, Object.class, Object.class));
+    private static final MethodHandle GET_PLAYER_CONNECTION = PLAYER_CONNECTION_FIELD.getGetterHandle();
+    private static final MethodHandle GET_PING = PING_FIELD.getGetterHandle().asType(MethodType.methodType(int.class, Object.class));
+    private static final MethodHandle GET_NETWORK_MANAGER = NETWORK_MANAGER_FIELD.getGetterHandle();
+    private static final MethodHandle GET_CHANNEL = CHANNEL_FIELD.getGetterHandle();
     // Clase del paquete de paquetes de información del jugador
     public static final Class<?> PLAYER_INFO_CLASS = Reflection.getMinecraftClass("PacketPlayOutPlayerInfo");
     // Clase de enumeración para las acciones de información del jugador
     public static final Class<?> PLAYER_INFO_ENUM_CLASS = Reflection.getMinecraftClass("PacketPlayOutPlayerInfo$EnumPlayerInfoAction");
     // Clase de datos de información del jugador en el paquete de información del jugador
     public static final Class<?> PLAYER_INFO_DATA_CLASS = Reflection.getMinecraftClass("PacketPlayOutPlayerInfo$PlayerInfoData");
+    // Clase del paquete del encabezado y el pie de la lista de jugadores
+    public static final Class<?> PLAYER_LIST_HEADER_FOOTER_CLASS = Reflection.getMinecraftClass("PacketPlayOutPlayerListHeaderFooter");
     // Clase del componente de chat de texto
     public static final Class<?> CHAT_COMPONENT_TEXT_CLASS = Reflection.getMinecraftClass("ChatComponentText");
     // Clase de enumeración para los ajustes del mundo, incluido el modo de juego
@@ -51,11 +81,19 @@ public class MinecraftReflection {
     /**
      * Clase que representa la clase Property de la biblioteca de autenticación de Mojang.
      */
-    private static final Class<?> PROPERTY_CLASS = Reflection.getUntypedClass("com.mojang.authlib.Property");
+    private static final Class<?> PROPERTY_CLASS = Reflection.getUntypedClass("com.mojang.authlib.properties.Property");
+    /**
+     * Clase que representa el mapa de propiedades de un GameProfile.
+     */
+    private static final Class<?> PROPERTY_MAP_CLASS = Reflection.getUntypedClass("com.mojang.authlib.properties.PropertyMap");
     /**
      * Método invocador para obtener las propiedades de un objeto GameProfile.
      */
     private static final Reflection.MethodInvoker GET_GAME_PROFILE_PROPERTIES_METHOD = Reflection.getSingleMethod(GAME_PROFILE_CLASS, "getProperties");
+    /**
+     * Método invocador para agregar una propiedad al mapa de propiedades de un GameProfile.
+     */
+    private static final Reflection.MethodInvoker PROPERTY_MAP_PUT_METHOD = Reflection.getSingleMethod(PROPERTY_MAP_CLASS, "put", Object.class, Object.class);
     /**
      * Constructor invocador para crear instancias de la clase GameProfile.
      */
@@ -101,8 +139,7 @@ public class MinecraftReflection {
             Object propertyMap = GET_GAME_PROFILE_PROPERTIES_METHOD.invoke(gameProfile);
 
             // Agrega la propiedad adicional al mapa de propiedades
-            Reflection.MethodInvoker putMethod = Reflection.getSingleMethod(propertyMap.getClass(), "put", Object.class, Object.class);
-            putMethod.invoke(propertyName, PROPERTY_CONSTRUCTOR.invoke(propertyName, value, signature));
+            PROPERTY_MAP_PUT_METHOD.invoke(propertyMap, propertyName, PROPERTY_CONSTRUCTOR.invoke(propertyName, value, signature));
 
             return gameProfile;
         } catch (Exception e) {
@@ -137,6 +174,115 @@ public class MinecraftReflection {
         sendPacket(player, createPlayerInfoPacket(action, target));
     }
 
+    /**
+     * Envía al jugador especificado un único paquete de información del jugador con todos los jugadores indicados.
+     *
+     * @param player  el jugador al que se enviará el paquete.
+     * @param action  la acción del paquete de información del jugador.
+     * @param targets los jugadores para los que se crea el paquete.
+     */
+    public static void sendPlayerInfoPacket(Player player, EnumPlayerInfoAction action, Collection<? extends Player> targets) {
+        // No se envía nada si no hay jugadores
+        if (targets.isEmpty()) return;
+
+        sendPacket(player, createPlayerInfoPacket(action, targets), TabMetrics.isEnabled() ? estimatePlayerInfoBytes(action, targets.size(), 0) : 0);
+    }
+
+    /**
+     * Envía al jugador especificado un único paquete de información del jugador con todas las entradas indicadas.
+     *
+     * @param player  el jugador al que se enviará el paquete.
+     * @param action  la acción del paquete de información del jugador.
+     * @param entries las entradas del Tab que se incluirán en el paquete; las entradas null se ignoran.
+     */
+    public static void sendTabEntriesPacket(Player player, EnumPlayerInfoAction action, Collection<TabEntry> entries) {
+        // Si la caché de paquetes serializados está activa, se reutilizan los bytes ya codificados
+        if (PacketByteCache.isEnabled()) {
+            PacketByteCache.sendTabEntriesPacket(player, action, entries);
+            return;
+        }
+
+        Object packet = createTabEntriesPacket(action, entries);
+
+        // No se envía nada si no hay entradas
+        if (packet != null) sendPacket(player, packet, TabMetrics.isEnabled() ? estimateTabEntriesBytes(action, entries) : 0);
+    }
+
+    /**
+     * Envía al jugador especificado el encabezado y el pie de la lista de jugadores.
+     *
+     * @param player el jugador al que se enviará el paquete.
+     * @param header el texto del encabezado, con códigos de color '&amp;'.
+     * @param footer el texto del pie, con códigos de color '&amp;'.
+     */
+    public static void sendHeaderFooterPacket(Player player, String header, String footer) {
+        // Estimación aproximada: cabecera del paquete y el JSON de los dos componentes
+        sendPacket(player, PacketFactory.createHeaderFooterPacket(header, footer), TabMetrics.isEnabled() ? 3 + 24 + header.length() + footer.length() : 0);
+    }
+
+    /**
+     * Estima el tamaño en bytes de un paquete de información del jugador con las entradas indicadas.
+     *
+     * @param action  la acción del paquete de información del jugador.
+     * @param entries las entradas del Tab; las entradas null se ignoran.
+     * @return el tamaño estimado del paquete.
+     */
+    public static int estimateTabEntriesBytes(EnumPlayerInfoAction action, Collection<TabEntry> entries) {
+        int count = 0, extraBytes = 0;
+        for (TabEntry entry : entries) {
+            if (entry == null) continue;
+
+            count++;
+            if (entry.getTextLine() != null) extraBytes += entry.getTextLine().length();
+            if (action == EnumPlayerInfoAction.ADD_PLAYER && entry.getValue() != null) {
+                extraBytes += entry.getValue().length() + (entry.getSignature() == null ? 0 : entry.getSignature().length());
+            }
+        }
+        return estimatePlayerInfoBytes(action, count, extraBytes);
+    }
+
+    // Estimación aproximada: cabecera del paquete, UUID de cada entrada y los campos de cada acción
+    private static int estimatePlayerInfoBytes(EnumPlayerInfoAction action, int count, int extraBytes) {
+        int perEntry;
+        switch (action) {
+            case ADD_PLAYER:
+                perEntry = 16 + 17 + 1 + 1 + 2 + 1 + 12; // UUID, nombre, propiedades, modo, ping, nombre visible y JSON
+                break;
+            case UPDATE_DISPLAY_NAME:
+                perEntry = 16 + 1 + 12; // UUID, nombre visible y JSON
+                break;
+            case UPDATE_LATENCY:
+                perEntry = 16 + 2; // UUID y ping
+                break;
+            case UPDATE_GAMEMODE:
+                perEntry = 16 + 1; // UUID y modo de juego
+                break;
+            default:
+                perEntry = 16; // UUID
+                break;
+        }
+        return 3 + count * perEntry + extraBytes;
+    }
+
+    /**
+     * Crea un único paquete de información del jugador con todas las entradas indicadas.
+     *
+     * @param action  la acción del paquete de información del jugador.
+     * @param entries las entradas del Tab que se incluirán en el paquete; las entradas null se ignoran.
+     * @return un paquete de información del jugador, o null si no hay entradas.
+     */
+    public static Object createTabEntriesPacket(EnumPlayerInfoAction action, Collection<TabEntry> entries) {
+        // Crea los datos de información de cada entrada en una sola lista, ignorando las casillas vacías
+        List<Object> infoData = new ArrayList<>(entries.size());
+        for (TabEntry entry : entries) {
+            if (entry == null) continue;
+            Object gameProfile = entry.getGameProfile() != null ? entry.getGameProfile() : createGameProfile(entry.getId(), entry.getName());
+            infoData.add(PacketFactory.createPlayerInfoData(gameProfile, entry.getPing(), EnumGamemode.NOT_SET, entry.getTextLine(), entry.isTranslated()));
+        }
+
+        return infoData.isEmpty() ? null : createPlayerInfoDataPacket(action, infoData);
+    }
+
     /**
      * Crea un paquete de información del jugador para un jugador específico.
      *
@@ -145,13 +291,27 @@ public class MinecraftReflection {
      * @return un paquete de información del jugador.
      */
     public static Object createPlayerInfoPacket(EnumPlayerInfoAction action, Player target) {
-        // Crea un array de objetos para el jugador objetivo
-        Object objectArray = Array.newInstance(CRAFT_PLAYER_CLASS, 1);
-        Array.set(objectArray, 0, getEntityPlayer(target));
+        return createPlayerInfoPacket(action, Collections.singletonList(target));
+    }
+
+    /**
+     * Crea un único paquete de información del jugador que contiene a todos los jugadores indicados.
+     *
+     * @param action  la acción del paquete de información del jugador.
+     * @param targets los jugadores que se incluirán en el paquete.
+     * @return un paquete de información del jugador.
+     */
+    public static Object createPlayerInfoPacket(EnumPlayerInfoAction action, Collection<? extends Player> targets) {
+        // Crea un array de EntityPlayer con todos los jugadores objetivo
+        Object objectArray = Array.newInstance(NMS_ENTITY_PLAYER_CLASS, targets.size());
+
+        int index = 0;
+        for (Player target : targets) {
+            Array.set(objectArray, index++, getEntityPlayer(target));
+        }
 
         // Crea y devuelve el paquete de información del jugador
-        return Reflection.getConstructor(PLAYER_INFO_CLASS, PLAYER_INFO_ENUM_CLASS, objectArray.getClass())
-                .invoke(Reflection.getEnum(PLAYER_INFO_ENUM_CLASS, action.name()), objectArray);
+        return PacketFactory.createPlayerInfoPacket(action, objectArray);
     }
 
     /**
@@ -162,16 +322,18 @@ public class MinecraftReflection {
      * @return un paquete de información del jugador.
      */
     public static Object createPlayerInfoPacket(EnumPlayerInfoAction action, Object infoData) {
-        // Crea un nuevo paquete de información del jugador
-        Reflection.ConstructorInvoker constructor = Reflection.getConstructor(PLAYER_INFO_CLASS);
-        Object packetInvoked = constructor.invoke();
-
-        // Establece la acción y los datos de información en el paquete
-        Object actionEnum = Reflection.getEnum(PLAYER_INFO_ENUM_CLASS, action.name());
-        Reflection.getField(PLAYER_INFO_CLASS, "a", Object.class).set(packetInvoked, actionEnum);
-        Reflection.getField(PLAYER_INFO_CLASS, "b", Object.class).set(packetInvoked, Collections.singletonList(infoData));
+        return createPlayerInfoDataPacket(action, Collections.singletonList(infoData));
+    }
 
-        return packetInvoked;
+    /**
+     * Crea un único paquete de información del jugador con todos los datos de información indicados.
+     *
+     * @param action   la acción del paquete de información del jugador.
+     * @param infoData los datos de información del jugador que se incluirán en el paquete.
+     * @return un paquete de información del jugador.
+     */
+    public static Object createPlayerInfoDataPacket(EnumPlayerInfoAction action, List<Object> infoData) {
+        return PacketFactory.createPlayerInfoPacket(action, infoData);
     }
 
 
@@ -185,26 +347,7 @@ public class MinecraftReflection {
      * @return un objeto de datos de información del jugador.
      */
     public static Object createPlayerInfoData(Object profile, int ping, EnumGamemode gamemode, String componentText) {
-        // Obtiene el constructor del paquete de información del jugador
-        Reflection.ConstructorInvoker constructorInvoker = Reflection.getConstructor(PLAYER_INFO_DATA_CLASS, 0);
-
-        // Lista de parámetros para el constructor
-        List<Object> parameters = new ArrayList<>();
-
-        // Añade el valor null si el constructor tiene un primer parámetro
-        if (constructorInvoker.getParameterTypes()[0] == PLAYER_INFO_CLASS) {
-            parameters.add(null);
-        }
-
-        // Añade los parámetros requeridos al constructor
-        parameters.add(profile); // Perfil del jugador
-        parameters.add(ping); // Ping del jugador
-        parameters.add(Reflection.getEnum(WORLD_SETTINGS_ENUM_CLASS, gamemode.name())); // Modo de juego
-        parameters.add(Reflection.getConstructor(CHAT_COMPONENT_TEXT_CLASS, String.class)
-                .invoke(ChatColor.translateAlternateColorCodes('&', componentText))); // Texto del componente de chat
-
-        // Invoca el constructor con los parámetros proporcionados y devuelve el objeto creado
-        return constructorInvoker.invoke(parameters.toArray());
+        return PacketFactory.createPlayerInfoData(profile, ping, gamemode, componentText);
     }
 
     /**
@@ -214,7 +357,47 @@ public class MinecraftReflection {
      * @return El objeto EntityPlayer (NMS) asociado al jugador.
      */
     public static Object getEntityPlayer(Player player) {
-        return GET_CRAFTPLAYER_HANDLE_METHOD.invoke(player);
+        try {
+            return (Object) GET_HANDLE.invokeExact((Object) player);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException("Cannot get the handle of " + player.getName(), e);
+        }
+    }
+
+    /**
+     * Devuelve el ping actual de un jugador, en milisegundos.
+     *
+     * @param player El jugador de Bukkit.
+     * @return El ping del jugador.
+     */
+    public static int getPing(Player player) {
+        try {
+            return (int) GET_PING.invokeExact(getEntityPlayer(player));
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException("Cannot get the ping of " + player.getName(), e);
+        }
+    }
+
+    /**
+     * Devuelve el canal de netty de la conexión de un jugador.
+     *
+     * @param player El jugador de Bukkit.
+     * @return El canal de netty del jugador.
+     */
+    public static Channel getChannel(Player player) {
+        try {
+            Object playerConnection = (Object) GET_PLAYER_CONNECTION.invokeExact(getEntityPlayer(player));
+            Object networkManager = (Object) GET_NETWORK_MANAGER.invokeExact(playerConnection);
+            return (Channel) (Object) GET_CHANNEL.invokeExact(networkManager);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException("Cannot get the channel of " + player.getName(), e);
+        }
     }
 
     /**
@@ -224,8 +407,53 @@ public class MinecraftReflection {
      * @param packet El paquete que se enviará.
      */
     public static void sendPacket(Player player, Object packet) {
-        Object playerConnection = PLAYER_CONNECTION_FIELD.get(getEntityPlayer(player));
-        SEND_PACKET_METHOD.invoke(playerConnection, packet);
+        sendPacket(player, packet, 0);
+    }
+
+    /**
+     * Envía un paquete a través de la conexión de un jugador, registrando su tamaño estimado en {@link TabMetrics}.
+     *
+     * @param player         El jugador al que se enviará el paquete.
+     * @param packet         El paquete que se enviará.
+     * @param estimatedBytes El tamaño estimado del paquete, o 0 si no se conoce.
+     */
+    private static void sendPacket(Player player, Object packet, int estimatedBytes) {
+        TabMetrics.recordPacket(player, estimatedBytes);
+
+        // Si hay un lote abierto para el jugador, el paquete se escribe sin vaciar el canal
+        PacketBatch batch = PacketBatch.current(player);
+        if (batch != null) {
+            batch.write(packet);
+            return;
+        }
+
+        try {
+            Object playerConnection = (Object) GET_PLAYER_CONNECTION.invokeExact(getEntityPlayer(player));
+            SEND_PACKET.invokeExact(playerConnection, packet);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException("Cannot send packet to " + player.getName(), e);
+        }
+    }
+
+    /**
+     * Escribe un mensaje ya codificado (por ejemplo un ByteBuf) directamente en el canal de un jugador.
+     *
+     * @param player  El jugador al que se enviará el mensaje.
+     * @param message El mensaje que se enviará.
+     */
+    public static void sendRawPacket(Player player, Object message) {
+        TabMetrics.recordPacket(player, message instanceof ByteBuf ? ((ByteBuf) message).readableBytes() : 0);
+
+        // Si hay un lote abierto para el jugador, el mensaje se escribe sin vaciar el canal
+        PacketBatch batch = PacketBatch.current(player);
+        if (batch != null) {
+            batch.write(message);
+            return;
+        }
+
+        getChannel(player).writeAndFlush(message);
     }
 
     /**
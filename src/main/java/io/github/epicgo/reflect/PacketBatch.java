@@ -0,0 +1,111 @@
+package io.github.epicgo.reflect;
+
+import io.netty.channel.Channel;
+import org.bukkit.entity.Player;
+
+/**
+ * Lote de paquetes para un jugador que se escriben directamente en su canal de netty y se vacían con un único flush.
+ * Mientras el lote está abierto en el hilo actual, {@link MinecraftReflection#sendPacket(Player, Object)} solo escribe
+ * los paquetes de ese jugador, sin vaciar el canal por cada uno.
+ * <pre>
+ * try (PacketBatch batch = PacketBatch.begin(player)) {
+ *     // enviar paquetes
+ * }
+ * </pre>
+ */
+public final class PacketBatch implements AutoCloseable {
+
+    // Lote abierto en el hilo actual
+    private static final ThreadLocal<PacketBatch> CURRENT = new ThreadLocal<>();
+    // Indica si la escritura agrupada está activa
+    private static volatile boolean enabled;
+
+    private final Player player;
+    private final Channel channel;
+    // Lote que estaba abierto antes que este en el mismo hilo
+    private final PacketBatch previous;
+    // Número de paquetes escritos pendientes de vaciar
+    private int pending;
+
+    private PacketBatch(Player player, Channel channel, PacketBatch previous) {
+        this.player = player;
+        this.channel = channel;
+        this.previous = previous;
+    }
+
+    /**
+     * Verifica si la escritura agrupada está activa.
+     *
+     * @return true si está activa, false de lo contrario.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Activa o desactiva la escritura agrupada de paquetes.
+     *
+     * @param enabled true para activarla, false para desactivarla.
+     */
+    public static void setEnabled(boolean enabled) {
+        PacketBatch.enabled = enabled;
+    }
+
+    /**
+     * Abre un lote de paquetes para el jugador en el hilo actual.
+     * Si la escritura agrupada no está activa, o ya hay un lote abierto para el jugador, el lote devuelto no tiene ningún efecto.
+     *
+     * @param player el jugador al que se enviarán los paquetes.
+     * @return el lote abierto, que debe cerrarse para vaciar el canal.
+     */
+    public static PacketBatch begin(Player player) {
+        if (!enabled) return new PacketBatch(player, null, null);
+
+        // Si ya hay un lote abierto para el jugador, los paquetes se añaden a ese lote y se vacían una sola vez al cerrarlo
+        if (current(player) != null) return new PacketBatch(player, null, null);
+
+        PacketBatch batch = new PacketBatch(player, MinecraftReflection.getChannel(player), CURRENT.get());
+        CURRENT.set(batch);
+        return batch;
+    }
+
+    /**
+     * Obtiene el lote abierto en el hilo actual para el jugador indicado.
+     *
+     * @param player el jugador.
+     * @return el lote abierto, o null si no hay ninguno para ese jugador.
+     */
+    static PacketBatch current(Player player) {
+        PacketBatch batch = CURRENT.get();
+        return batch != null && batch.player == player ? batch : null;
+    }
+
+    /**
+     * Escribe un mensaje en el canal del jugador sin vaciarlo.
+     *
+     * @param message el paquete o buffer que se escribirá.
+     */
+    void write(Object message) {
+        channel.write(message);
+        pending++;
+    }
+
+    /**
+     * Vacía el canal si hay paquetes escritos y cierra el lote.
+     */
+    @Override
+    public void close() {
+        if (channel == null) return;
+
+        if (pending > 0) {
+            channel.flush();
+            pending = 0;
+        }
+
+        // Restaura el lote anterior solo si este era el lote abierto
+        if (CURRENT.get() == this) {
+            if (previous == null) CURRENT.remove();
+            else CURRENT.set(previous);
+        }
+    }
+}
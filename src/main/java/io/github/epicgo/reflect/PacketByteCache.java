@@ -0,0 +1,180 @@
+package io.github.epicgo.reflect;
+
+import io.github.epicgo.layout.TabEntry;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Caché de paquetes de información del jugador ya serializados.
+ * Los paquetes con el mismo contenido se codifican una sola vez en un {@link ByteBuf}, y el mismo buffer
+ * se escribe en el canal de cada jugador, de modo que la codificación se hace por contenido único y no por jugador.
+ * <p>
+ * Los buffers contienen el identificador del paquete y su contenido; la compresión y el prefijo de longitud
+ * los siguen aplicando los handlers del canal de cada jugador.
+ */
+public final class PacketByteCache {
+
+    // Clase del serializador de paquetes de Minecraft
+    private static final Class<?> PACKET_DATA_SERIALIZER_CLASS = Reflection.getMinecraftClass("PacketDataSerializer");
+    // Clases del protocolo de Minecraft, usadas para resolver el identificador del paquete
+    private static final Class<?> ENUM_PROTOCOL_CLASS = Reflection.getMinecraftClass("EnumProtocol");
+    private static final Class<?> ENUM_PROTOCOL_DIRECTION_CLASS = Reflection.getMinecraftClass("EnumProtocolDirection");
+    /**
+     * Constructor del serializador de paquetes a partir de un ByteBuf.
+     */
+    private static final Reflection.ConstructorInvoker PACKET_DATA_SERIALIZER_CONSTRUCTOR = Reflection.getConstructor(PACKET_DATA_SERIALIZER_CLASS, ByteBuf.class);
+    /**
+     * Método que escribe el contenido de un paquete en un serializador.
+     */
+    private static final Reflection.MethodInvoker PACKET_WRITE_METHOD = Reflection.getTypedMethod(MinecraftReflection.NMS_PACKET_CLASS, "b", void.class, true, PACKET_DATA_SERIALIZER_CLASS);
+    /**
+     * Identificador del paquete de información del jugador en el protocolo de juego.
+     */
+    private static final int PLAYER_INFO_PACKET_ID = (Integer) Reflection.getTypedMethod(ENUM_PROTOCOL_CLASS, "a", Integer.class, true, ENUM_PROTOCOL_DIRECTION_CLASS, MinecraftReflection.NMS_PACKET_CLASS)
+            .invoke(Reflection.getEnum(ENUM_PROTOCOL_CLASS, "PLAY"), Reflection.getEnum(ENUM_PROTOCOL_DIRECTION_CLASS, "CLIENTBOUND"), PacketFactory.createPlayerInfoPacket(MinecraftReflection.EnumPlayerInfoAction.ADD_PLAYER, new ArrayList<>()));
+
+    // Buffers serializados por contenido, en orden de acceso para el desalojo LRU
+    private static final LinkedHashMap<List<Object>, ByteBuf> CACHE = new LinkedHashMap<>(16, 0.75F, true);
+
+    // Indica si la caché está activa
+    private static volatile boolean enabled;
+    // Número máximo de paquetes distintos que se mantienen en la caché
+    private static int maxEntries = 256;
+
+    private PacketByteCache() {
+    }
+
+    /**
+     * Verifica si la caché de paquetes serializados está activa.
+     *
+     * @return true si está activa, false de lo contrario.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Activa o desactiva la caché de paquetes serializados. Al desactivarla se liberan todos los buffers.
+     *
+     * @param enabled true para activarla, false para desactivarla.
+     */
+    public static void setEnabled(boolean enabled) {
+        PacketByteCache.enabled = enabled;
+        if (!enabled) clear();
+    }
+
+    /**
+     * Establece el número máximo de paquetes distintos que se mantienen en la caché.
+     *
+     * @param maxEntries el número máximo de paquetes.
+     */
+    public static synchronized void setMaxEntries(int maxEntries) {
+        PacketByteCache.maxEntries = maxEntries;
+        evict();
+    }
+
+    /**
+     * Libera todos los buffers de la caché.
+     */
+    public static synchronized void clear() {
+        for (ByteBuf buffer : CACHE.values()) {
+            buffer.release();
+        }
+        CACHE.clear();
+    }
+
+    /**
+     * Envía al jugador especificado un paquete de información del jugador con las entradas indicadas,
+     * reutilizando los bytes ya serializados si otro jugador recibió el mismo contenido.
+     *
+     * @param player  el jugador al que se enviará el paquete.
+     * @param action  la acción del paquete de información del jugador.
+     * @param entries las entradas del Tab que se incluirán en el paquete; las entradas null se ignoran.
+     */
+    public static void sendTabEntriesPacket(Player player, MinecraftReflection.EnumPlayerInfoAction action, Collection<TabEntry> entries) {
+        List<Object> key = createKey(action, entries);
+
+        // No se envía nada si no hay entradas
+        if (key.size() == 1) return;
+
+        ByteBuf buffer = getRetained(key);
+        if (buffer == null) {
+            buffer = putRetained(key, encode(MinecraftReflection.createTabEntriesPacket(action, entries)));
+        }
+
+        MinecraftReflection.sendRawPacket(player, buffer);
+    }
+
+    // Crea la clave de contenido de un paquete: la acción seguida de los datos de cada entrada
+    private static List<Object> createKey(MinecraftReflection.EnumPlayerInfoAction action, Collection<TabEntry> entries) {
+        List<Object> key = new ArrayList<>(1 + entries.size() * 7);
+        key.add(action);
+
+        for (TabEntry entry : entries) {
+            if (entry == null) continue;
+
+            key.add(entry.getId());
+            key.add(entry.getName());
+            key.add(entry.getPing());
+            key.add(entry.getTextLine());
+            key.add(entry.isTranslated());
+            key.add(entry.getValue());
+            key.add(entry.getSignature());
+        }
+        return key;
+    }
+
+    // Obtiene una vista retenida del buffer en caché, o null si no existe
+    private static synchronized ByteBuf getRetained(List<Object> key) {
+        ByteBuf buffer = CACHE.get(key);
+        return buffer == null ? null : buffer.duplicate().retain();
+    }
+
+    // Guarda un buffer en la caché y devuelve una vista retenida; si otro hilo ya lo guardó se usa el existente
+    private static synchronized ByteBuf putRetained(List<Object> key, ByteBuf encoded) {
+        ByteBuf buffer = CACHE.get(key);
+        if (buffer == null) {
+            CACHE.put(key, buffer = encoded);
+        } else {
+            encoded.release();
+        }
+
+        // Se retiene antes de desalojar para que el buffer siga siendo válido aunque sea desalojado
+        ByteBuf retained = buffer.duplicate().retain();
+        evict();
+        return retained;
+    }
+
+    // Desaloja los buffers menos usados recientemente hasta respetar el tamaño máximo
+    private static void evict() {
+        while (CACHE.size() > maxEntries) {
+            Map.Entry<List<Object>, ByteBuf> eldest = CACHE.entrySet().iterator().next();
+            eldest.getValue().release();
+            CACHE.remove(eldest.getKey());
+        }
+    }
+
+    // Serializa un paquete de información del jugador: identificador (VarInt) seguido de su contenido
+    private static ByteBuf encode(Object packet) {
+        ByteBuf buffer = Unpooled.buffer();
+        writeVarInt(buffer, PLAYER_INFO_PACKET_ID);
+        PACKET_WRITE_METHOD.invoke(packet, PACKET_DATA_SERIALIZER_CONSTRUCTOR.invoke(buffer));
+        return buffer;
+    }
+
+    // Escribe un entero con el formato VarInt del protocolo de Minecraft
+    private static void writeVarInt(ByteBuf buffer, int value) {
+        while ((value & -128) != 0) {
+            buffer.writeByte(value & 127 | 128);
+            value >>>= 7;
+        }
+        buffer.writeByte(value);
+    }
+}
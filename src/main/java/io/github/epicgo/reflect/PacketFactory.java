@@ -0,0 +1,267 @@
+package io.github.epicgo.reflect;
+
+import org.bukkit.ChatColor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Array;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fábrica de paquetes que resuelve una sola vez, al cargar la clase, todos los constructores,
+ * campos y constantes de enum necesarios para construir los paquetes del Tab.
+ */
+public final class PacketFactory {
+
+    /**
+     * Constructor vacío del paquete de información del jugador.
+     */
+    private static final Reflection.ConstructorInvoker PLAYER_INFO_CONSTRUCTOR = Reflection.getConstructor(MinecraftReflection.PLAYER_INFO_CLASS);
+    /**
+     * Constructor del paquete de información del jugador que recibe un array de EntityPlayer.
+     */
+    private static final Reflection.ConstructorInvoker PLAYER_INFO_ENTITY_CONSTRUCTOR = Reflection.getConstructor(MinecraftReflection.PLAYER_INFO_CLASS,
+            MinecraftReflection.PLAYER_INFO_ENUM_CLASS, Array.newInstance(MinecraftReflection.NMS_ENTITY_PLAYER_CLASS, 0).getClass());
+    /**
+     * Campo de la acción del paquete de información del jugador.
+     */
+    private static final Reflection.FieldAccessor<Object> PLAYER_INFO_ACTION_FIELD = Reflection.getField(MinecraftReflection.PLAYER_INFO_CLASS, "a", Object.class);
+    /**
+     * Campo de la lista de datos del paquete de información del jugador.
+     */
+    private static final Reflection.FieldAccessor<Object> PLAYER_INFO_DATA_FIELD = Reflection.getField(MinecraftReflection.PLAYER_INFO_CLASS, "b", Object.class);
+    /**
+     * Constructor de los datos de información del jugador.
+     */
+    private static final Reflection.ConstructorInvoker PLAYER_INFO_DATA_CONSTRUCTOR = Reflection.getConstructor(MinecraftReflection.PLAYER_INFO_DATA_CLASS, 0);
+    /**
+     * Indica si el constructor de los datos recibe como primer parámetro el paquete contenedor (clase interna no estática).
+     */
+    private static final boolean PLAYER_INFO_DATA_OUTER_PARAMETER = PLAYER_INFO_DATA_CONSTRUCTOR.getParameterTypes()[0] == MinecraftReflection.PLAYER_INFO_CLASS;
+    /**
+     * Constructor vacío del paquete del encabezado y el pie de la lista de jugadores.
+     */
+    private static final Reflection.ConstructorInvoker HEADER_FOOTER_CONSTRUCTOR = Reflection.getConstructor(MinecraftReflection.PLAYER_LIST_HEADER_FOOTER_CLASS);
+    /**
+     * Campo del componente del encabezado de la lista de jugadores.
+     */
+    private static final Reflection.FieldAccessor<Object> HEADER_FIELD = Reflection.getField(MinecraftReflection.PLAYER_LIST_HEADER_FOOTER_CLASS, "a", Object.class);
+    /**
+     * Campo del componente del pie de la lista de jugadores.
+     */
+    private static final Reflection.FieldAccessor<Object> FOOTER_FIELD = Reflection.getField(MinecraftReflection.PLAYER_LIST_HEADER_FOOTER_CLASS, "b", Object.class);
+    /**
+     * Constructor del componente de chat de texto.
+     */
+    private static final Reflection.ConstructorInvoker CHAT_COMPONENT_TEXT_CONSTRUCTOR = Reflection.getConstructor(MinecraftReflection.CHAT_COMPONENT_TEXT_CLASS, String.class);
+    /**
+     * Constantes NMS de las acciones de información del jugador, indexadas por el ordinal de {@link MinecraftReflection.EnumPlayerInfoAction}.
+     */
+    private static final Object[] PLAYER_INFO_ACTIONS = resolveEnums(MinecraftReflection.PLAYER_INFO_ENUM_CLASS, MinecraftReflection.EnumPlayerInfoAction.values());
+    /**
+     * Constantes NMS de los modos de juego, indexadas por el ordinal de {@link MinecraftReflection.EnumGamemode}.
+     */
+    private static final Object[] GAMEMODES = resolveEnums(MinecraftReflection.WORLD_SETTINGS_ENUM_CLASS, MinecraftReflection.EnumGamemode.values());
+    // Handles de los invocadores anteriores, usados al construir cada paquete. Al ser static final, el JIT los trata
+    // como constantes e integra las llamadas; los datos de información reciben siempre 4 argumentos
+    private static final MethodHandle NEW_PLAYER_INFO = PLAYER_INFO_CONSTRUCTOR.getConstructorHandle();
+    private static final MethodHandle NEW_PLAYER_INFO_ENTITIES = PLAYER_INFO_ENTITY_CONSTRUCTOR.getConstructorHandle();
+    private static final MethodHandle SET_PLAYER_INFO_ACTION = PLAYER_INFO_ACTION_FIELD.getSetterHandle();
+    private static final MethodHandle SET_PLAYER_INFO_DATA = PLAYER_INFO_DATA_FIELD.getSetterHandle();
+    private static final MethodHandle NEW_PLAYER_INFO_DATA = PLAYER_INFO_DATA_OUTER_PARAMETER
+            ? MethodHandles.insertArguments(PLAYER_INFO_DATA_CONSTRUCTOR.getConstructorHandle(), 0, (Object) null)
+            : PLAYER_INFO_DATA_CONSTRUCTOR.getConstructorHandle();
+    private static final MethodHandle NEW_HEADER_FOOTER = HEADER_FOOTER_CONSTRUCTOR.getConstructorHandle();
+    private static final MethodHandle SET_HEADER = HEADER_FIELD.getSetterHandle();
+    private static final MethodHandle SET_FOOTER = FOOTER_FIELD.getSetterHandle();
+    private static final MethodHandle NEW_CHAT_COMPONENT = CHAT_COMPONENT_TEXT_CONSTRUCTOR.getConstructorHandle();
+    /**
+     * Número máximo de componentes de chat que se mantienen en caché.
+     */
+    private static final int MAX_CACHED_COMPONENTS = 2048;
+    /**
+     * Componentes de chat ya creados por texto sin traducir, en orden de acceso para el desalojo LRU.
+     */
+    private static final Map<String, Object> CHAT_COMPONENT_CACHE = createComponentCache();
+    /**
+     * Componentes de chat ya creados por texto ya traducido, en orden de acceso para el desalojo LRU.
+     */
+    private static final Map<String, Object> TRANSLATED_CHAT_COMPONENT_CACHE = createComponentCache();
+
+    private PacketFactory() {
+    }
+
+    /**
+     * Crea un paquete de información del jugador con la lista de datos de información indicada.
+     *
+     * @param action   la acción del paquete de información del jugador.
+     * @param infoData los datos de información del jugador.
+     * @return un paquete de información del jugador.
+     */
+    public static Object createPlayerInfoPacket(MinecraftReflection.EnumPlayerInfoAction action, List<Object> infoData) {
+        try {
+            Object packet = (Object) NEW_PLAYER_INFO.invokeExact();
+
+            // Establece la acción y los datos de información en el paquete
+            SET_PLAYER_INFO_ACTION.invokeExact(packet, PLAYER_INFO_ACTIONS[action.ordinal()]);
+            SET_PLAYER_INFO_DATA.invokeExact(packet, (Object) infoData);
+
+            return packet;
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException("Cannot create the player info packet.", e);
+        }
+    }
+
+    /**
+     * Crea un paquete de información del jugador a partir de un array de EntityPlayer.
+     *
+     * @param action        la acción del paquete de información del jugador.
+     * @param entityPlayers el array de EntityPlayer (NMS) que se incluirá en el paquete.
+     * @return un paquete de información del jugador.
+     */
+    public static Object createPlayerInfoPacket(MinecraftReflection.EnumPlayerInfoAction action, Object entityPlayers) {
+        try {
+            return (Object) NEW_PLAYER_INFO_ENTITIES.invokeExact(PLAYER_INFO_ACTIONS[action.ordinal()], entityPlayers);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException("Cannot create the player info packet.", e);
+        }
+    }
+
+    /**
+     * Crea un objeto de datos de información del jugador.
+     *
+     * @param profile       el perfil del jugador.
+     * @param ping          el ping del jugador.
+     * @param gamemode      el modo de juego del jugador.
+     * @param componentText el texto del componente de chat.
+     * @return un objeto de datos de información del jugador.
+     */
+    public static Object createPlayerInfoData(Object profile, int ping, MinecraftReflection.EnumGamemode gamemode, String componentText) {
+        return createPlayerInfoData(profile, ping, gamemode, componentText, false);
+    }
+
+    /**
+     * Crea un objeto de datos de información del jugador.
+     *
+     * @param profile       el perfil del jugador.
+     * @param ping          el ping del jugador.
+     * @param gamemode      el modo de juego del jugador.
+     * @param componentText el texto del componente de chat.
+     * @param translated    true si el texto ya tiene los códigos de color traducidos, false si usa códigos '&amp;'.
+     * @return un objeto de datos de información del jugador.
+     */
+    public static Object createPlayerInfoData(Object profile, int ping, MinecraftReflection.EnumGamemode gamemode, String componentText, boolean translated) {
+        Object chatComponent = translated ? createTranslatedChatComponent(componentText) : createChatComponent(componentText);
+        Object gamemodeEnum = GAMEMODES[gamemode.ordinal()];
+
+        try {
+            return (Object) NEW_PLAYER_INFO_DATA.invokeExact(profile, (Object) ping, gamemodeEnum, chatComponent);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException("Cannot create the player info data.", e);
+        }
+    }
+
+    /**
+     * Crea un paquete con el encabezado y el pie de la lista de jugadores.
+     * Los componentes se obtienen de la caché, por lo que los textos iguales se comparten entre jugadores.
+     *
+     * @param header el texto del encabezado.
+     * @param footer el texto del pie.
+     * @return el paquete del encabezado y el pie.
+     */
+    public static Object createHeaderFooterPacket(String header, String footer) {
+        try {
+            Object packet = (Object) NEW_HEADER_FOOTER.invokeExact();
+
+            SET_HEADER.invokeExact(packet, createChatComponent(header));
+            SET_FOOTER.invokeExact(packet, createChatComponent(footer));
+
+            return packet;
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException("Cannot create the header and footer packet.", e);
+        }
+    }
+
+    /**
+     * Obtiene un componente de chat de texto traduciendo los códigos de color con '&amp;'.
+     * Los textos repetidos reutilizan el mismo componente, que no debe modificarse.
+     *
+     * @param text el texto del componente.
+     * @return el componente de chat.
+     */
+    public static Object createChatComponent(String text) {
+        synchronized (CHAT_COMPONENT_CACHE) {
+            Object component = CHAT_COMPONENT_CACHE.get(text);
+            if (component == null) {
+                component = newChatComponent(ChatColor.translateAlternateColorCodes('&', text));
+                CHAT_COMPONENT_CACHE.put(text, component);
+            }
+            return component;
+        }
+    }
+
+    /**
+     * Obtiene un componente de chat de un texto cuyos códigos de color ya están traducidos, como el de
+     * {@link io.github.epicgo.layout.TextTemplate#render}; los caracteres '&amp;' del texto se mantienen.
+     * Los textos repetidos reutilizan el mismo componente, que no debe modificarse.
+     *
+     * @param text el texto ya traducido.
+     * @return el componente de chat.
+     */
+    public static Object createTranslatedChatComponent(String text) {
+        synchronized (TRANSLATED_CHAT_COMPONENT_CACHE) {
+            Object component = TRANSLATED_CHAT_COMPONENT_CACHE.get(text);
+            if (component == null) {
+                component = newChatComponent(text);
+                TRANSLATED_CHAT_COMPONENT_CACHE.put(text, component);
+            }
+            return component;
+        }
+    }
+
+    // Crea una caché LRU de componentes de chat por texto
+    private static Map<String, Object> createComponentCache() {
+        return new LinkedHashMap<String, Object>(256, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Object> eldest) {
+                return size() > MAX_CACHED_COMPONENTS;
+            }
+        };
+    }
+
+    // Crea un componente de chat con el texto indicado, ya traducido
+    private static Object newChatComponent(String text) {
+        try {
+            return (Object) NEW_CHAT_COMPONENT.invokeExact((Object) text);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException("Cannot create the chat component.", e);
+        }
+    }
+
+    // Resuelve las constantes NMS con el mismo nombre que cada constante local, en el mismo orden.
+    // Los nombres se comparan sin guiones bajos: la constante local UPDATE_GAMEMODE es UPDATE_GAME_MODE en NMS
+    private static Object[] resolveEnums(Class<?> enumType, Enum<?>[] constants) {
+        Object[] resolved = new Object[constants.length];
+        for (Enum<?> constant : constants) {
+            for (Object nmsConstant : enumType.getEnumConstants()) {
+                if (((Enum<?>) nmsConstant).name().replace("_", "").equals(constant.name().replace("_", ""))) {
+                    resolved[constant.ordinal()] = nmsConstant;
+                    break;
+                }
+            }
+        }
+        return resolved;
+    }
+}
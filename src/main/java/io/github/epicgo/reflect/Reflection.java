@@ -2,11 +2,18 @@ package io.github.epicgo.reflect;
 
 import org.bukkit.Bukkit;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -21,6 +28,22 @@ public final class Reflection {
     // Patrón para buscar variables en una cadena
     private static final Pattern PATTERN_MATCH_VARIABLE = Pattern.compile("\\{([^\\}]+)\\}");
 
+    // Lookup utilizado para convertir los miembros reflexivos en MethodHandles
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    // Indica si los invocadores usan MethodHandles (por defecto) o la API de reflexión clásica
+    private static final boolean USE_METHOD_HANDLES = !Boolean.getBoolean("tab.reflection.legacy");
+
+    // Cachés de las búsquedas ya resueltas. Las clases y constantes de enum que no existen también se guardan
+    // (como Optional vacío) para no repetir la búsqueda fallida
+    private static final Map<String, Class<?>> LOOKUP_CLASSES = new ConcurrentHashMap<>();
+    // Nombre canónico de cada nombre de búsqueda, para no repetir la expansión de variables en las búsquedas fallidas
+    private static final Map<String, String> EXPANDED_NAMES = new ConcurrentHashMap<>();
+    private static final Map<String, Optional<Class<?>>> CANONICAL_CLASSES = new ConcurrentHashMap<>();
+    private static final Map<MemberKey, Optional<Object>> ENUMS = new ConcurrentHashMap<>();
+    private static final Map<MemberKey, FieldAccessor<?>> FIELDS = new ConcurrentHashMap<>();
+    private static final Map<MemberKey, MethodInvoker> METHODS = new ConcurrentHashMap<>();
+    private static final Map<MemberKey, ConstructorInvoker> CONSTRUCTORS = new ConcurrentHashMap<>();
+
     /**
      * Obtiene la clase correspondiente al nombre proporcionado, sin conocer el tipo en tiempo de compilación.
      *
@@ -39,8 +62,13 @@ public final class Reflection {
      * @throws IllegalArgumentException si no se puede encontrar la clase.
      */
     public static Class<?> getClass(String lookupName) {
-        // Expande las variables en el nombre de búsqueda y obtiene la clase correspondiente
-        return getCanonicalClass(expandVariables(lookupName));
+        Class<?> clazz = LOOKUP_CLASSES.get(lookupName);
+        if (clazz == null) {
+            // Expande las variables en el nombre de búsqueda y obtiene la clase correspondiente
+            clazz = getCanonicalClass(EXPANDED_NAMES.computeIfAbsent(lookupName, Reflection::expandVariables));
+            LOOKUP_CLASSES.put(lookupName, clazz);
+        }
+        return clazz;
     }
 
     /**
@@ -71,11 +99,21 @@ public final class Reflection {
      * @throws IllegalArgumentException si no se puede encontrar la clase.
      */
     private static Class<?> getCanonicalClass(String canonicalName) {
+        Optional<Class<?>> cached = CANONICAL_CLASSES.get(canonicalName);
+        if (cached != null) {
+            // La clase ya se buscó antes; si no existía, se falla sin volver a intentar cargarla
+            if (cached.isPresent()) return cached.get();
+            throw new IllegalArgumentException("Cannot find " + canonicalName);
+        }
+
         try {
             // Intenta cargar la clase utilizando su nombre canónico
-            return Class.forName(canonicalName);
+            Class<?> clazz = Class.forName(canonicalName);
+            CANONICAL_CLASSES.put(canonicalName, Optional.of(clazz));
+            return clazz;
         } catch (ClassNotFoundException e) {
             // Si la clase no se encuentra, lanza una excepción con un mensaje descriptivo
+            CANONICAL_CLASSES.put(canonicalName, Optional.empty());
             throw new IllegalArgumentException("Cannot find " + canonicalName, e);
         }
     }
@@ -212,19 +250,37 @@ public final class Reflection {
      * @param <T>       el tipo de dato del campo.
      * @return un acceso al campo para la clase, nombre de campo, tipo de campo y posición de índice proporcionados.
      */
+    @SuppressWarnings("unchecked")
     private static <T> FieldAccessor<T> getField(Class<?> target, String name, Class<T> fieldType, int index) {
+        MemberKey key = new MemberKey(target, name, fieldType, index);
+        FieldAccessor<?> accessor = FIELDS.get(key);
+        if (accessor == null) {
+            accessor = findField(target, name, fieldType, index);
+            FIELDS.putIfAbsent(key, accessor);
+        }
+        return (FieldAccessor<T>) accessor;
+    }
+
+    // Busca el campo en la clase y, si no está, en sus superclases
+    private static <T> FieldAccessor<T> findField(Class<?> target, String name, Class<T> fieldType, int index) {
         for (final Field field : target.getDeclaredFields()) {
             if ((name == null || field.getName().equals(name)) && fieldType.isAssignableFrom(field.getType()) && index-- <= 0) {
                 field.setAccessible(true);
 
+                // Handles de lectura y escritura del campo, o null si se usa la reflexión clásica
+                final MethodHandle getter = createFieldHandle(field, false);
+                final MethodHandle setter = createFieldHandle(field, true);
+
                 // Retorna un nuevo objeto FieldAccessor con la lógica adecuada
                 return new FieldAccessor<T>() {
                     @Override
                     public T get(Object target) {
                         try {
                             // Obtiene el valor del campo
-                            return (T) field.get(target);
-                        } catch (IllegalAccessException e) {
+                            return (T) (getter != null ? (Object) getter.invokeExact(target) : field.get(target));
+                        } catch (RuntimeException | Error e) {
+                            throw e;
+                        } catch (Throwable e) {
                             // Si hay un error al acceder al campo, lanza una excepción
                             throw new RuntimeException("Cannot access reflection.", e);
                         }
@@ -234,13 +290,28 @@ public final class Reflection {
                     public void set(Object target, Object value) {
                         try {
                             // Establece el valor del campo
-                            field.set(target, value);
-                        } catch (IllegalAccessException e) {
+                            if (setter != null)
+                                setter.invokeExact(target, value);
+                            else
+                                field.set(target, value);
+                        } catch (RuntimeException | Error e) {
+                            throw e;
+                        } catch (Throwable e) {
                             // Si hay un error al acceder al campo, lanza una excepción
                             throw new RuntimeException("Cannot access reflection.", e);
                         }
                     }
 
+                    @Override
+                    public MethodHandle getGetterHandle() {
+                        return getter != null ? getter : FieldAccessor.super.getGetterHandle();
+                    }
+
+                    @Override
+                    public MethodHandle getSetterHandle() {
+                        return setter != null ? setter : FieldAccessor.super.getSetterHandle();
+                    }
+
                     @Override
                     public boolean hasField(Object target) {
                         // Verifica si el campo pertenece a la clase especificada
@@ -270,7 +341,7 @@ public final class Reflection {
 
         // Si no se encuentra ningún campo coincidente, busca en las superclases
         if (target.getSuperclass() != null)
-            return getField(target.getSuperclass(), name, fieldType, index);
+            return findField(target.getSuperclass(), name, fieldType, index);
 
         // Si no se encuentra ningún campo coincidente en la jerarquía de clases, lanza una excepción
         throw new IllegalArgumentException("Cannot find field with type " + fieldType);
@@ -327,24 +398,48 @@ public final class Reflection {
      * @return un invocador de método para la clase, nombre de método, tipo de retorno y parámetros proporcionados.
      */
     public static MethodInvoker getTypedMethod(Class<?> clazz, String methodName, Class<?> returnType, boolean declared, Class<?>... params) {
+        MemberKey key = new MemberKey(clazz, methodName, returnType, declared, params);
+        MethodInvoker invoker = METHODS.get(key);
+        if (invoker == null) {
+            invoker = findMethod(clazz, methodName, returnType, declared, params);
+            METHODS.putIfAbsent(key, invoker);
+        }
+        return invoker;
+    }
+
+    // Busca el método en la clase y, si no está, en sus superclases
+    private static MethodInvoker findMethod(Class<?> clazz, String methodName, Class<?> returnType, boolean declared, Class<?>... params) {
         for (final Method method : (declared ? clazz.getDeclaredMethods() : clazz.getMethods())) {
             if ((methodName == null || method.getName().equals(methodName))
                     && (returnType == null || method.getReturnType().equals(returnType))
                     && Arrays.equals(method.getParameterTypes(), params)) {
                 method.setAccessible(true);
 
+                // Handle del método y su versión que recibe los argumentos en un array, o null si se usa la reflexión clásica
+                final MethodHandle handle = createMethodHandle(method);
+                final MethodHandle spreader = handle == null ? null : handle.asSpreader(Object[].class, method.getParameterTypes().length);
+
                 // Retorna un nuevo objeto MethodInvoker con la lógica adecuada
                 return new MethodInvoker() {
                     @Override
                     public Object invoke(Object target, Object... arguments) {
                         try {
-                            return method.invoke(target, arguments);
-                        } catch (Exception e) {
+                            return spreader != null ? (Object) spreader.invokeExact(target, arguments) : method.invoke(target, arguments);
+                        } catch (RuntimeException | Error e) {
+                            throw e;
+                        } catch (InvocationTargetException e) {
+                            throw new RuntimeException("Cannot invoke method " + method, e.getCause());
+                        } catch (Throwable e) {
                             // Si se produce un error al invocar el método, lanza una excepción
                             throw new RuntimeException("Cannot invoke method " + method, e);
                         }
                     }
 
+                    @Override
+                    public MethodHandle getMethodHandle() {
+                        return handle != null ? handle : MethodInvoker.super.getMethodHandle();
+                    }
+
                     @Override
                     public String getMethodName() {
                         // Devuelve el nombre del método
@@ -374,7 +469,7 @@ public final class Reflection {
 
         // Si no se encuentra ningún método coincidente, busca en las superclases
         if (clazz.getSuperclass() != null)
-            return getTypedMethod(clazz.getSuperclass(), methodName, returnType, declared, params);
+            return findMethod(clazz.getSuperclass(), methodName, returnType, declared, params);
 
         // Si no se encuentra ningún método coincidente en la jerarquía de clases, lanza una excepción
         throw new IllegalStateException(String.format("Unable to find method %s (%s).", methodName, Arrays.asList(params)));
@@ -403,13 +498,19 @@ public final class Reflection {
      * @throws IndexOutOfBoundsException si el índice está fuera de rango (menor que 0 o mayor que el número de constructores).
      */
     public static ConstructorInvoker getConstructor(Class<?> clazz, int indexOf) {
+        MemberKey key = new MemberKey(clazz, null, indexOf);
+        ConstructorInvoker cached = CONSTRUCTORS.get(key);
+        if (cached != null) return cached;
+
         // Obtiene el constructor en la posición especificada del array de constructores
         Constructor<?> constructor = clazz.getDeclaredConstructors()[indexOf];
         // Hace accesible al constructor aunque sea privado
         constructor.setAccessible(true);
 
         // Devuelve un invocador de constructor para el constructor obtenido
-        return createConstructorInvoker(constructor);
+        ConstructorInvoker invoker = createConstructorInvoker(constructor);
+        CONSTRUCTORS.putIfAbsent(key, invoker);
+        return invoker;
     }
 
     /**
@@ -421,6 +522,10 @@ public final class Reflection {
      * @throws IllegalStateException si no se puede encontrar el constructor.
      */
     public static ConstructorInvoker getConstructor(Class<?> clazz, Class<?>... params) {
+        MemberKey key = new MemberKey(clazz, null, (Object[]) params);
+        ConstructorInvoker cached = CONSTRUCTORS.get(key);
+        if (cached != null) return cached;
+
         // Itera sobre todos los constructores declarados de la clase
         for (final Constructor<?> constructor : clazz.getDeclaredConstructors()) {
             // Compara los tipos de parámetros del constructor con los tipos proporcionados
@@ -428,7 +533,9 @@ public final class Reflection {
                 // Establece el constructor accesible
                 constructor.setAccessible(true);
                 // Devuelve un invocador de constructor para el constructor encontrado
-                return createConstructorInvoker(constructor);
+                ConstructorInvoker invoker = createConstructorInvoker(constructor);
+                CONSTRUCTORS.putIfAbsent(key, invoker);
+                return invoker;
             }
         }
 
@@ -443,18 +550,31 @@ public final class Reflection {
      * @return un invocador de constructor para el constructor dado.
      */
     private static ConstructorInvoker createConstructorInvoker(Constructor<?> constructor) {
+        // Handle del constructor y su versión que recibe los argumentos en un array, o null si se usa la reflexión clásica
+        final MethodHandle handle = createConstructorHandle(constructor);
+        final MethodHandle spreader = handle == null ? null : handle.asSpreader(Object[].class, constructor.getParameterTypes().length);
+
         // Devuelve un nuevo invocador de constructor que instancia el constructor dado
         return new ConstructorInvoker() {
             @Override
             public Object invoke(Object... arguments) {
                 try {
-                    return constructor.newInstance(arguments);
-                } catch (Exception e) {
+                    return spreader != null ? (Object) spreader.invokeExact(arguments) : constructor.newInstance(arguments);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (InvocationTargetException e) {
+                    throw new RuntimeException("Cannot invoke constructor " + constructor, e.getCause());
+                } catch (Throwable e) {
                     // Si se produce un error al invocar el constructor, lanza una excepción
                     throw new RuntimeException("Cannot invoke constructor " + constructor, e);
                 }
             }
 
+            @Override
+            public MethodHandle getConstructorHandle() {
+                return handle != null ? handle : ConstructorInvoker.super.getConstructorHandle();
+            }
+
             @Override
             public Class<?>[] getParameterTypes() {
                 // Devuelve los tipos de parámetros del constructor
@@ -465,6 +585,74 @@ public final class Reflection {
 
 
 
+    /**
+     * Crea un MethodHandle de lectura o escritura para el campo dado, adaptado al tipo (Object)Object
+     * para lectura o (Object, Object)void para escritura.
+     *
+     * @param field el campo accesible.
+     * @param write true para crear el handle de escritura, false para el de lectura.
+     * @return el handle creado, o null si no se usan MethodHandles o el campo no lo permite (por ejemplo, un campo final).
+     */
+    private static MethodHandle createFieldHandle(Field field, boolean write) {
+        if (!USE_METHOD_HANDLES) return null;
+
+        try {
+            MethodHandle handle = write ? LOOKUP.unreflectSetter(field) : LOOKUP.unreflectGetter(field);
+
+            // Los campos estáticos ignoran el objeto de destino
+            if (Modifier.isStatic(field.getModifiers()))
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+
+            return handle.asType(write
+                    ? MethodType.methodType(void.class, Object.class, Object.class)
+                    : MethodType.methodType(Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            // Se usará la reflexión clásica para este campo
+            return null;
+        }
+    }
+
+    /**
+     * Crea un MethodHandle para el método dado, adaptado al tipo (Object, Object...)Object con un Object por parámetro.
+     *
+     * @param method el método accesible.
+     * @return el handle creado, o null si no se usan MethodHandles o no se puede crear.
+     */
+    private static MethodHandle createMethodHandle(Method method) {
+        if (!USE_METHOD_HANDLES) return null;
+
+        try {
+            MethodHandle handle = LOOKUP.unreflect(method);
+
+            // Los métodos estáticos ignoran el objeto de destino
+            if (Modifier.isStatic(method.getModifiers()))
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+
+            return handle.asType(MethodType.genericMethodType(method.getParameterTypes().length + 1));
+        } catch (IllegalAccessException e) {
+            // Se usará la reflexión clásica para este método
+            return null;
+        }
+    }
+
+    /**
+     * Crea un MethodHandle para el constructor dado, adaptado al tipo (Object...)Object con un Object por parámetro.
+     *
+     * @param constructor el constructor accesible.
+     * @return el handle creado, o null si no se usan MethodHandles o no se puede crear.
+     */
+    private static MethodHandle createConstructorHandle(Constructor<?> constructor) {
+        if (!USE_METHOD_HANDLES) return null;
+
+        try {
+            return LOOKUP.unreflectConstructor(constructor)
+                    .asType(MethodType.genericMethodType(constructor.getParameterTypes().length));
+        } catch (IllegalAccessException e) {
+            // Se usará la reflexión clásica para este constructor
+            return null;
+        }
+    }
+
     /**
      * Obtiene el valor del enum correspondiente al nombre de la clase de enum y el nombre del enum proporcionados.
      *
@@ -474,7 +662,7 @@ public final class Reflection {
      */
     public static Object getEnum(String className, String enumName) {
         // Expande las variables en el nombre de la clase de enum, obtiene la clase correspondiente y llama al método getEnum apropiado.
-        return getEnum(getCanonicalClass(expandVariables(className)), enumName);
+        return getEnum(getClass(className), enumName);
     }
 
     /**
@@ -485,6 +673,17 @@ public final class Reflection {
      * @return el valor del enum correspondiente.
      */
     public static Object getEnum(Class<?> enumType, String enumName) {
+        MemberKey key = new MemberKey(enumType, enumName);
+        Optional<Object> cached = ENUMS.get(key);
+        if (cached != null) return cached.orElse(null);
+
+        Object value = findEnum(enumType, enumName);
+        ENUMS.putIfAbsent(key, Optional.ofNullable(value));
+        return value;
+    }
+
+    // Lee la constante del enum con el nombre indicado
+    private static Object findEnum(Class<?> enumType, String enumName) {
         try {
             // Intenta obtener el campo declarado del enum con el nombre proporcionado
             Field field = enumType.getDeclaredField(enumName);
@@ -503,6 +702,66 @@ public final class Reflection {
     }
 
 
+    /**
+     * Crea un MethodHandle que llama al método de una interfaz de invocador sobre la instancia dada.
+     *
+     * @param invoker    la instancia del invocador.
+     * @param type       la interfaz del invocador.
+     * @param methodName el nombre del método de la interfaz.
+     * @param methodType el tipo del método.
+     * @return el handle ligado a la instancia.
+     */
+    private static MethodHandle bind(Object invoker, Class<?> type, String methodName, MethodType methodType) {
+        try {
+            return LOOKUP.findVirtual(type, methodName, methodType).bindTo(invoker);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot bind " + type.getSimpleName() + "." + methodName, e);
+        }
+    }
+
+    /**
+     * Clave de las cachés de miembros: la clase, el nombre y el resto de la firma buscada.
+     */
+    private static final class MemberKey {
+
+        private final Class<?> type;
+        private final String name;
+        private final Object[] signature;
+        private final int hash;
+
+        private MemberKey(Class<?> type, String name, Object... signature) {
+            this.type = type;
+            this.name = name;
+            // Se copia la firma para que el llamador pueda reutilizar sus arreglos sin alterar la clave guardada
+            this.signature = signature == null ? null : copy(signature);
+            this.hash = 31 * (31 * type.hashCode() + (name == null ? 0 : name.hashCode())) + Arrays.deepHashCode(signature);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (!(other instanceof MemberKey)) return false;
+
+            MemberKey key = (MemberKey) other;
+            return type == key.type && hash == key.hash && (name == null ? key.name == null : name.equals(key.name))
+                    && Arrays.deepEquals(signature, key.signature);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        // Copia un arreglo y, recursivamente, los arreglos que contiene
+        private static Object[] copy(Object[] array) {
+            Object[] copy = array.clone();
+            for (int i = 0; i < copy.length; i++) {
+                if (copy[i] instanceof Object[]) copy[i] = copy((Object[]) copy[i]);
+            }
+            return copy;
+        }
+    }
+
     /**
      * Interfaz que proporciona un método para invocar un constructor específico de una clase.
      */
@@ -516,6 +775,18 @@ public final class Reflection {
          */
         Object invoke(Object... arguments);
 
+        /**
+         * Obtiene un MethodHandle del constructor de tipo (Object...)Object, con un Object por parámetro.
+         * Guardado en un campo static final, el JIT puede integrar la llamada con invokeExact.
+         * Con la reflexión clásica, el handle llama a {@link #invoke(Object...)}.
+         *
+         * @return el handle del constructor.
+         */
+        default MethodHandle getConstructorHandle() {
+            return bind(this, ConstructorInvoker.class, "invoke", MethodType.methodType(Object.class, Object[].class))
+                    .asCollector(Object[].class, getParameterTypes().length);
+        }
+
         /**
          * Obtiene los tipos de parámetros del constructor.
          *
@@ -538,6 +809,18 @@ public final class Reflection {
          */
         Object invoke(Object target, Object... arguments);
 
+        /**
+         * Obtiene un MethodHandle del método de tipo (Object, Object...)Object: el objeto objetivo y un Object por parámetro.
+         * Guardado en un campo static final, el JIT puede integrar la llamada con invokeExact.
+         * Con la reflexión clásica, el handle llama a {@link #invoke(Object, Object...)}.
+         *
+         * @return el handle del método.
+         */
+        default MethodHandle getMethodHandle() {
+            return bind(this, MethodInvoker.class, "invoke", MethodType.methodType(Object.class, Object.class, Object[].class))
+                    .asCollector(Object[].class, getParameterTypes().length);
+        }
+
         /**
          * Obtiene el nombre del método.
          *
@@ -590,6 +873,28 @@ public final class Reflection {
          */
         void set(Object target, Object value);
 
+        /**
+         * Obtiene un MethodHandle de lectura del campo de tipo (Object)Object.
+         * Guardado en un campo static final, el JIT puede integrar la llamada con invokeExact.
+         * Con la reflexión clásica, el handle llama a {@link #get(Object)}.
+         *
+         * @return el handle de lectura.
+         */
+        default MethodHandle getGetterHandle() {
+            return bind(this, FieldAccessor.class, "get", MethodType.methodType(Object.class, Object.class));
+        }
+
+        /**
+         * Obtiene un MethodHandle de escritura del campo de tipo (Object, Object)void.
+         * Guardado en un campo static final, el JIT puede integrar la llamada con invokeExact.
+         * Con la reflexión clásica, o si el campo es final, el handle llama a {@link #set(Object, Object)}.
+         *
+         * @return el handle de escritura.
+         */
+        default MethodHandle getSetterHandle() {
+            return bind(this, FieldAccessor.class, "set", MethodType.methodType(void.class, Object.class, Object.class));
+        }
+
         /**
          * Verifica si el objeto especificado tiene el campo.
          *